@@ -10,6 +10,7 @@ import framework.constants.CommonVariables;
 import framework.enums.BrowserEnums;
 import framework.enums.LogVerboseEnums;
 import framework.helper.SoftAssert;
+import framework.helper.StepMetrics;
 import framework.logs.LogAccess;
 import framework.utilities.AllureUtil;
 import framework.utilities.DateTimeUtil;
@@ -118,6 +119,9 @@ public abstract class FwBaseClass {
 		
 		browserFunctions.launch(browserName, downloadPath, methodName);
 
+		// step timings (if enabled) are written per test when the browser is quit
+		StepMetrics.startTest(methodName);
+
 		setSoftAssert();
 
 		// initializing the AllureUtil
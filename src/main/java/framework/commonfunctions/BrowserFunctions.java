@@ -2,6 +2,7 @@ package framework.commonfunctions;
 
 import framework.constants.CommonVariables;
 import framework.enums.BrowserEnums;
+import framework.helper.StepMetrics;
 import framework.logs.LogAccess;
 import framework.utilities.FolderFileUtil;
 import framework.utilities.JsonUtil;
@@ -216,6 +217,14 @@ public class BrowserFunctions {
 	public void quit() {
 		this.logAccess.getLogger().info("Quiting the browser");
 		this.driver.quit();
+		try {
+			String stepMetricsPath = StepMetrics.endTest();
+			if (stepMetricsPath != null) {
+				this.logAccess.getLogger().info("Step metrics are written to :- " + stepMetricsPath);
+			}
+		} catch (IOException ioException) {
+			this.logAccess.getLogger().warn("Unable to write the step metrics :- " + ioException.getMessage());
+		}
 	}
 
 	/**
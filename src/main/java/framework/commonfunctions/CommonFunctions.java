@@ -2,28 +2,50 @@ package framework.commonfunctions;
 
 import framework.constants.CommonVariables;
 import framework.enums.BrowserEnums;
+import framework.enums.EvidenceModeEnums;
 import framework.enums.ExpectedConditionsEnums;
+import framework.enums.ScrollModeEnums;
+import framework.helper.ActionScript;
+import framework.helper.AdaptiveSleeper;
+import framework.helper.ByFrame;
+import framework.helper.ByShadow;
+import framework.helper.LocatorCache;
+import framework.helper.PerceptualHash;
+import framework.helper.RetryPolicy;
+import framework.helper.ScreenShotEncoder;
+import framework.helper.ScreenShotWriter;
+import framework.helper.StepMetrics;
+import framework.helper.WaitProfiler;
 import framework.logs.LogAccess;
 import framework.utilities.*;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.*;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.firefox.HasFullPageScreenshot;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.remote.Augmenter;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.UnexpectedTagNameException;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.RasterFormatException;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * All the methods related to the common operations will be handled in this
@@ -76,10 +98,167 @@ public class CommonFunctions {
 	private String screenShotsPath;
 	private String highlightBgColor = "orange";
 
+	/**
+	 * Wait for the element invisibility using the DOM observer instead of polling.
+	 */
+	private boolean invisibilityObserverMode = false;
+
+	/**
+	 * Max time (in seconds) the element status checks without timeout should wait.
+	 */
+	private int negativeAssertionTimeout = CommonVariables.MED_TIMEOUT;
+
+	/**
+	 * Reuse the elements resolved earlier for the same locator.
+	 */
+	private boolean locatorCacheEnabled = false;
+
+	private final LocatorCache locatorCache = new LocatorCache();
+
+	/**
+	 * The driver left in a frame by a {@link ByFrame} locator, it is switched
+	 * back to the default content before a plain locator is used.
+	 */
+	private WebDriver frameLocatorDriver;
+
+	/**
+	 * Decides when the element should be highlighted as part of the element
+	 * actions.
+	 */
+	private EvidenceModeEnums evidenceMode = EvidenceModeEnums.HIGHLIGHT_ON_CAPTURE;
+
+	/**
+	 * Decides how the element should be scrolled to the center after the wait.
+	 */
+	private ScrollModeEnums scrollMode = ScrollModeEnums.IF_NEEDED;
+
+	/**
+	 * Adaptive polling for the waits, see {@link AdaptiveSleeper}.
+	 */
+	private boolean adaptivePolling = false;
+
+	/**
+	 * Records the wait time of the locators, see {@link WaitProfiler}.
+	 */
+	private boolean waitProfiling = false;
+
+	/**
+	 * Use the timeouts derived from the recorded wait times of the locators.
+	 */
+	private boolean autoTunedTimeouts = false;
+
+	/**
+	 * Retry policy for the click, input value and get text actions.
+	 */
+	private RetryPolicy retryPolicy = RetryPolicy.NONE;
+
+	/**
+	 * Wait for the SPA framework to be idle before the waits for the element by
+	 * locator.
+	 */
+	private boolean spaSyncMode = false;
+
+	/**
+	 * Records the step timings of the public actions, see {@link StepMetrics}.
+	 */
+	private boolean stepMetrics = false;
+
+	/**
+	 * Capture the full page screenshot natively (DevTools/Firefox full page)
+	 * instead of stitching the page chunks.
+	 */
+	private boolean nativeFullPageScreenShot = false;
+
+	/**
+	 * Write the screenshots in the background, see {@link ScreenShotWriter}.
+	 */
+	private boolean asyncScreenShots = false;
+
+	private final ScreenShotWriter screenShotWriter = new ScreenShotWriter();
+
+	/**
+	 * Encoding of the screenshots, full resolution PNG by default.
+	 */
+	private ScreenShotEncoder screenShotEncoder = ScreenShotEncoder.PNG;
+
+	/**
+	 * Reuse the previous screenshot when the new one looks the same, see
+	 * {@link PerceptualHash}.
+	 */
+	private boolean screenShotDeduplication = false;
+
+	private PerceptualHash lastScreenShotHash;
+
+	private ScreenShotWriter.ScreenShotHandle lastScreenShotHandle;
+
+	private Object lastScreenShotPageToken;
+
 	private String downloadFolderPath = null;
 
 	private CsvUtil csvUtil;
 
+	/**
+	 * Total time (in milliseconds) saved by waiting for the conditions instead of
+	 * the fixed sleeps, see {@link #getSavedSleepTime()}.
+	 */
+	private static final AtomicLong SAVED_SLEEP_MILLIS = new AtomicLong();
+
+	/**
+	 * JavaScript helper functions to resolve the locators and check the expected
+	 * conditions with in the browser.<br>
+	 * <ul>
+	 * <li>fwLocateAll(query, root) - all the elements matching the query</li>
+	 * <li>fwLocate(query, root) - first element matching the query or null</li>
+	 * <li>fwIsVisible(element) - visibility status of the element</li>
+	 * <li>fwMatches(element, condition) - expected condition status of the
+	 * element</li>
+	 * <li>fwScrollIfNeeded(element) - scrolls the element to the center if it is
+	 * not completely with in the viewport</li>
+	 * </ul>
+	 * Query is the W3C locator strategy ("using") and the value of a
+	 * {@link By.Remotable} locator.
+	 */
+	private static final String JS_LOCATOR_FUNCTIONS = "function fwLocateAll(query, root) {"
+			+ " var value = query.value, nodes = [];"
+			+ " switch (query.using) {"
+			+ "  case 'css selector': return Array.prototype.slice.call(root.querySelectorAll(value));"
+			+ "  case 'tag name': return Array.prototype.slice.call(root.querySelectorAll(value));"
+			+ "  case 'id': return Array.prototype.slice.call(root.querySelectorAll('#' + CSS.escape(value)));"
+			+ "  case 'class name': return Array.prototype.slice.call(root.querySelectorAll('.' + CSS.escape(value)));"
+			+ "  case 'name': return Array.prototype.slice.call(root.querySelectorAll('[name=\"' + value.replace(/\"/g, '\\\\\"') + '\"]'));"
+			+ "  case 'xpath':"
+			+ "   var result = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+			+ "   for (var index = 0; index < result.snapshotLength; index++) { nodes.push(result.snapshotItem(index)); }"
+			+ "   return nodes;"
+			+ "  case 'link text':"
+			+ "  case 'partial link text':"
+			+ "   return Array.prototype.slice.call(root.querySelectorAll('a')).filter(function(anchor) {"
+			+ "    var text = (anchor.innerText || '').trim();"
+			+ "    return query.using === 'link text' ? text === value : text.indexOf(value) > -1; });"
+			+ " }"
+			+ " return nodes;"
+			+ "}"
+			+ "function fwLocate(query, root) { return fwLocateAll(query, root)[0] || null; }"
+			+ "function fwIsVisible(ele) {"
+			+ " if (!ele.isConnected) { return false; }"
+			+ " var style = window.getComputedStyle(ele), rect = ele.getBoundingClientRect();"
+			+ " return style.display !== 'none' && style.visibility !== 'hidden' && style.opacity !== '0'"
+			+ "  && rect.width > 0 && rect.height > 0;"
+			+ "}"
+			+ "function fwMatches(ele, condition) {"
+			+ " if (condition === 'PRESENCE') { return true; }"
+			+ " return condition === 'CLICKABLE' ? fwIsVisible(ele) && !ele.disabled : fwIsVisible(ele);"
+			+ "}"
+			+ "function fwScrollIfNeeded(ele) {"
+			+ " var rect = ele.getBoundingClientRect();"
+			+ " var width = window.innerWidth || document.documentElement.clientWidth;"
+			+ " var height = window.innerHeight || document.documentElement.clientHeight;"
+			+ " if (rect.top < 0 || rect.left < 0 || rect.bottom > height || rect.right > width) {"
+			+ "  ele.scrollIntoView({behavior: 'auto', block: 'center', inline: 'center'}); return true;"
+			+ " }"
+			+ " return false;"
+			+ "}";
+
 	/**
 	 * Instantiates a new common functions.<br>
 	 * All the utilities available in the framework will be instantiate as part of
@@ -197,6 +376,421 @@ public class CommonFunctions {
 		this.highlightBgColor = color;
 	}
 
+	/**
+	 * Gets the invisibility observer mode status.
+	 *
+	 * @return true, if the invisibility waits are using the DOM observer
+	 */
+	public boolean isInvisibilityObserverMode() {
+		return this.invisibilityObserverMode;
+	}
+
+	/**
+	 * Sets the invisibility observer mode.<br>
+	 * <font color="blue"><b>Note:</b> When this is true,
+	 * {@link #waitForInvisibilityOfElement(WebDriver, By, int, int)
+	 * waitForInvisibilityOfElement} installs a MutationObserver in the page and
+	 * waits for the element to disappear in a single asynchronous script, rather
+	 * polling the element every 500 milliseconds.<br>
+	 * Waits will fall back to polling if the page navigates while observing or the
+	 * locator can't be resolved with JavaScript.</font>
+	 *
+	 * @param invisibilityObserverMode true to wait using the DOM observer
+	 */
+	public void setInvisibilityObserverMode(boolean invisibilityObserverMode) {
+		this.invisibilityObserverMode = invisibilityObserverMode;
+	}
+
+	/**
+	 * Gets the negative assertion timeout.
+	 *
+	 * @return the max time in seconds the isElementPresent, isElementDisplayed and
+	 * isElementEnabled methods without timeout will wait
+	 */
+	public int getNegativeAssertionTimeout() {
+		return this.negativeAssertionTimeout;
+	}
+
+	/**
+	 * Sets the negative assertion timeout.<br>
+	 * <font color="blue"><b>Note:</b> This is the max time the isElementPresent,
+	 * isElementDisplayed and isElementEnabled methods without timeout will wait,
+	 * {@link CommonVariables#MED_TIMEOUT} by default.<br>
+	 * Set this to {@link CommonVariables#NO_TIMEOUT} to probe the element once
+	 * without any wait (the implicit wait of the driver is suspended during the
+	 * probe), for the suites which check mostly the absence of the
+	 * elements.</font>
+	 *
+	 * @param negativeAssertionTimeout the max timeout in seconds
+	 */
+	public void setNegativeAssertionTimeout(int negativeAssertionTimeout) {
+		this.negativeAssertionTimeout = negativeAssertionTimeout;
+	}
+
+	/**
+	 * Gets the locator cache status.
+	 *
+	 * @return true, if the resolved elements are cached by locator
+	 */
+	public boolean isLocatorCacheEnabled() {
+		return this.locatorCacheEnabled;
+	}
+
+	/**
+	 * Enables/disables the locator cache.<br>
+	 * <font color="blue"><b>Note:</b> When enabled, the element resolved for a by
+	 * locator is cached (see {@link LocatorCache}) and the subsequent waits for
+	 * the same locator will only verify the cached element rather locating it
+	 * again.<br>
+	 * Cached element is used only with in the page it was resolved in, and the
+	 * element is located again if the cached element is stale.</font>
+	 *
+	 * @param locatorCacheEnabled true to cache the resolved elements
+	 */
+	public void setLocatorCacheEnabled(boolean locatorCacheEnabled) {
+		this.locatorCacheEnabled = locatorCacheEnabled;
+		if (!locatorCacheEnabled) {
+			this.locatorCache.invalidate();
+		}
+	}
+
+	/**
+	 * Gets the evidence mode.
+	 *
+	 * @return the evidence mode
+	 */
+	public EvidenceModeEnums getEvidenceMode() {
+		return this.evidenceMode;
+	}
+
+	/**
+	 * Sets the evidence mode, this decides when the element has to be highlighted
+	 * as part of the element actions (click, input, select, get text etc.).<br>
+	 * <font color="blue"><b>Note:</b> Default is
+	 * {@link EvidenceModeEnums#HIGHLIGHT_ON_CAPTURE}, so no highlight JavaScript is
+	 * executed when the screenshot is not captured. Use
+	 * {@link EvidenceModeEnums#ALWAYS_HIGHLIGHT} to highlight the element on every
+	 * action as per the earlier releases.</font>
+	 *
+	 * @param evidenceMode the evidence mode
+	 */
+	public void setEvidenceMode(EvidenceModeEnums evidenceMode) {
+		this.evidenceMode = evidenceMode;
+	}
+
+	/**
+	 * Gets the scroll mode.
+	 *
+	 * @return the scroll mode
+	 */
+	public ScrollModeEnums getScrollMode() {
+		return this.scrollMode;
+	}
+
+	/**
+	 * Sets the scroll mode, this decides how the element has to be scrolled to the
+	 * center after waiting for the element (when isScrollElementToCenter is
+	 * true).<br>
+	 * <font color="blue"><b>Note:</b> Default is
+	 * {@link ScrollModeEnums#IF_NEEDED}, element will be scrolled only when it is
+	 * not completely with in the viewport. Use {@link ScrollModeEnums#ALWAYS} to
+	 * scroll the element on every wait as per the earlier releases.</font>
+	 *
+	 * @param scrollMode the scroll mode
+	 */
+	public void setScrollMode(ScrollModeEnums scrollMode) {
+		this.scrollMode = scrollMode;
+	}
+
+	/**
+	 * Checks if adaptive polling is enabled.
+	 *
+	 * @return true, if adaptive polling is enabled
+	 */
+	public boolean isAdaptivePolling() {
+		return this.adaptivePolling;
+	}
+
+	/**
+	 * Sets the adaptive polling, when enabled the waits poll fast for the first
+	 * few hundred milliseconds and then back off exponentially instead of the
+	 * fixed polling interval. Waits for the element by locator also learn the
+	 * usual wait time of the locator and poll fast around that time.<br>
+	 * <font color="blue"><b>Note:</b> See {@link AdaptiveSleeper} for the polling
+	 * intervals.</font>
+	 *
+	 * @param adaptivePolling the adaptive polling
+	 */
+	public void setAdaptivePolling(boolean adaptivePolling) {
+		this.adaptivePolling = adaptivePolling;
+	}
+
+	/**
+	 * Checks if wait profiling is enabled.
+	 *
+	 * @return true, if wait profiling is enabled
+	 */
+	public boolean isWaitProfiling() {
+		return this.waitProfiling;
+	}
+
+	/**
+	 * Sets the wait profiling, when enabled the time taken by the waits for the
+	 * element by locator is recorded per locator and expected condition and
+	 * persisted to {@link CommonVariables#WAIT_STATS_FILE_PATH
+	 * WAIT_STATS_FILE_PATH}.<br>
+	 * <font color="blue"><b>Note:</b> Use {@link WaitProfiler#getReport(int)} to
+	 * get the locators which take most of the wait time.</font>
+	 *
+	 * @param waitProfiling the wait profiling
+	 */
+	public void setWaitProfiling(boolean waitProfiling) {
+		this.waitProfiling = waitProfiling;
+	}
+
+	/**
+	 * Checks if auto tuned timeouts are enabled.
+	 *
+	 * @return true, if auto tuned timeouts are enabled
+	 */
+	public boolean isAutoTunedTimeouts() {
+		return this.autoTunedTimeouts;
+	}
+
+	/**
+	 * Sets the auto tuned timeouts, when enabled the waits for the element by
+	 * locator use the timeout derived from the p99 of the recorded wait times
+	 * (see {@link WaitProfiler#getTimeout(String, int)}) instead of the given
+	 * timeout. Given timeout is used till there are enough recorded wait times
+	 * for the locator, and again for a while after the locator has timed out.
+	 * Timeout is not tuned below {@link CommonVariables#MIN_TIMEOUT MIN_TIMEOUT}
+	 * unless the given timeout is lower.
+	 *
+	 * @param autoTunedTimeouts the auto tuned timeouts
+	 */
+	public void setAutoTunedTimeouts(boolean autoTunedTimeouts) {
+		this.autoTunedTimeouts = autoTunedTimeouts;
+	}
+
+	/**
+	 * Gets the retry policy.
+	 *
+	 * @return the retry policy
+	 */
+	public RetryPolicy getRetryPolicy() {
+		return this.retryPolicy;
+	}
+
+	/**
+	 * Sets the retry policy for the click, input value and get text actions, the
+	 * action is retried when it fails with stale element or click intercepted
+	 * exceptions. Element is resolved again before the retry for the actions by
+	 * locator and for the intercepted click, overlay is waited to clear.<br>
+	 * <font color="blue"><b>Note:</b> Default is {@link RetryPolicy#NONE}, use
+	 * eg: <i>new RetryPolicy("default", 3, 100)</i> to retry 3 times starting with
+	 * 100 ms of backoff.</font>
+	 *
+	 * @param retryPolicy the retry policy
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * Checks if SPA sync mode is enabled.
+	 *
+	 * @return true, if SPA sync mode is enabled
+	 */
+	public boolean isSpaSyncMode() {
+		return this.spaSyncMode;
+	}
+
+	/**
+	 * Sets the SPA sync mode, when enabled the waits for the element by locator
+	 * first wait for the SPA framework to be idle (see
+	 * {@link #waitForSpaIdle(WebDriver, int)}) and check the element only after
+	 * that, so that the element is not polled while the page is re-rendered.<br>
+	 * <font color="blue"><b>Note:</b> The SPA sync waits for max of
+	 * {@link CommonVariables#SPA_SYNC_TIMEOUT SPA_SYNC_TIMEOUT} before each
+	 * element wait, the element wait still gets its full timeout after that.
+	 * Once the sync times out on a page, the later element waits on the page
+	 * are not synced.</font>
+	 *
+	 * @param spaSyncMode the SPA sync mode
+	 */
+	public void setSpaSyncMode(boolean spaSyncMode) {
+		this.spaSyncMode = spaSyncMode;
+	}
+
+	/**
+	 * Checks if step metrics are enabled.
+	 *
+	 * @return true, if step metrics are enabled
+	 */
+	public boolean isStepMetrics() {
+		return this.stepMetrics;
+	}
+
+	/**
+	 * Sets the step metrics, when enabled each public action is timed and the
+	 * time is split in to waiting, WebDriver commands, screenshots and
+	 * highlighting. Timings are available as histograms per action type and per
+	 * locator from {@link StepMetrics} and written per test to
+	 * {@link CommonVariables#STEP_METRICS_FOLDER_PATH STEP_METRICS_FOLDER_PATH}
+	 * when the browser is quit.<br>
+	 * <font color="blue"><b>Note:</b> The actions are timed by
+	 * {@link framework.helper.StepMetricsAspect StepMetricsAspect}, so the tests
+	 * should run with the AspectJ weaver agent (the same one needed for the
+	 * Allure steps).</font>
+	 *
+	 * @param stepMetrics the step metrics
+	 */
+	public void setStepMetrics(boolean stepMetrics) {
+		this.stepMetrics = stepMetrics;
+	}
+
+	/**
+	 * Checks if native full page screenshot is enabled.
+	 *
+	 * @return true, if native full page screenshot is enabled
+	 */
+	public boolean isNativeFullPageScreenShot() {
+		return this.nativeFullPageScreenShot;
+	}
+
+	/**
+	 * Sets the native full page screenshot, when enabled the full page
+	 * screenshot is captured with a single call rather scrolling and stitching
+	 * the page chunks
+	 * <ul>
+	 * <li>Chrome/Edge - DevTools Page.captureScreenshot beyond the viewport</li>
+	 * <li>Firefox - full page screenshot of the driver</li>
+	 * </ul>
+	 * Page chunks are stitched as earlier for the other browsers or when the
+	 * native capture fails.
+	 *
+	 * @param nativeFullPageScreenShot the native full page screenshot
+	 */
+	public void setNativeFullPageScreenShot(boolean nativeFullPageScreenShot) {
+		this.nativeFullPageScreenShot = nativeFullPageScreenShot;
+	}
+
+	/**
+	 * Checks if async screenshots are enabled.
+	 *
+	 * @return true, if async screenshots are enabled
+	 */
+	public boolean isAsyncScreenShots() {
+		return this.asyncScreenShots;
+	}
+
+	/**
+	 * Sets the async screenshots, when enabled the screenshot is only captured on
+	 * the test thread, it is encoded and written to the file in the background
+	 * (see {@link ScreenShotWriter}). Screenshot methods return the path right
+	 * away, the file is available after the write is completed.<br>
+	 * <font color="blue"><b>Note:</b> Call {@link #flushScreenShots()} before
+	 * reading the screenshot files and at the end of the test,
+	 * {@link framework.helper.SoftAssert SoftAssert} does it before attaching
+	 * the screenshot.</font>
+	 *
+	 * @param asyncScreenShots the async screenshots
+	 */
+	public void setAsyncScreenShots(boolean asyncScreenShots) {
+		this.asyncScreenShots = asyncScreenShots;
+	}
+
+	/**
+	 * Gets the screenshot encoder.
+	 *
+	 * @return the screenshot encoder
+	 */
+	public ScreenShotEncoder getScreenShotEncoder() {
+		return this.screenShotEncoder;
+	}
+
+	/**
+	 * Sets the screenshot encoder, screenshots (including the full page
+	 * screenshots) are encoded with it before they are written, eg: <i>new
+	 * ScreenShotEncoder(ImageFormatEnums.JPEG, 0.7f, 0.5, false, 1024 * 1024)</i>
+	 * for JPEG of 70% quality, half the size and with in 1 MB.<br>
+	 * <font color="blue"><b>Note:</b> Default is {@link ScreenShotEncoder#PNG},
+	 * the screenshot is written as captured. Encoding is done in the background
+	 * along with the write when the async screenshots are enabled.</font>
+	 *
+	 * @param screenShotEncoder the screenshot encoder
+	 */
+	public void setScreenShotEncoder(ScreenShotEncoder screenShotEncoder) {
+		this.screenShotEncoder = screenShotEncoder;
+	}
+
+	/**
+	 * Checks if screenshot deduplication is enabled.
+	 *
+	 * @return true, if screenshot deduplication is enabled
+	 */
+	public boolean isScreenShotDeduplication() {
+		return this.screenShotDeduplication;
+	}
+
+	/**
+	 * Sets the screenshot deduplication, when enabled the perceptual hash of the
+	 * screenshot is compared with the last written screenshot and if it differs
+	 * by at most {@link CommonVariables#SCREENSHOT_DEDUP_THRESHOLD
+	 * SCREENSHOT_DEDUP_THRESHOLD} bits, the path of the last screenshot is
+	 * returned instead of writing a new file.<br>
+	 * <font color="blue"><b>Note:</b> Applies to the viewport screenshots (eg:
+	 * <i>isCaptureScreenShot</i> of the actions), the full page screenshots, the
+	 * screenshots with the highlighted element and the soft assert failure
+	 * screenshots are always written. Screenshot is reused only on the same page
+	 * and till the screenshots are {@link #flushScreenShots() flushed} (i.e. with
+	 * in the test). Small changes like a few characters typed in a field may not
+	 * change the hash, keep it disabled when every step has to be
+	 * captured.</font>
+	 *
+	 * @param screenShotDeduplication the screenshot deduplication
+	 */
+	public void setScreenShotDeduplication(boolean screenShotDeduplication) {
+		this.screenShotDeduplication = screenShotDeduplication;
+		resetScreenShotDeduplication();
+	}
+
+	/**
+	 * Forgets the last written screenshot, so that the next screenshot is always
+	 * written.
+	 */
+	private synchronized void resetScreenShotDeduplication() {
+		this.lastScreenShotHash = null;
+		this.lastScreenShotHandle = null;
+		this.lastScreenShotPageToken = null;
+	}
+
+	/**
+	 * Waits for all the screenshots written in the background (flush barrier),
+	 * nothing is done when the async screenshots are not used. The later
+	 * screenshots are not deduplicated against the screenshots taken before the
+	 * flush.
+	 *
+	 * @throws IOException Signals that one of the screenshots could not be
+	 *                     written.
+	 */
+	public void flushScreenShots() throws IOException {
+		resetScreenShotDeduplication();
+		this.screenShotWriter.flush();
+	}
+
+	/**
+	 * Gets the total time saved in this run by waiting for the conditions (eg:
+	 * scroll settled, element rendered, dialog loaded) instead of the fixed sleeps
+	 * used earlier in full page screenshot, download wait and clearing the Chrome
+	 * cache/site data.
+	 *
+	 * @return the saved sleep time in milliseconds
+	 */
+	public static long getSavedSleepTime() {
+		return SAVED_SLEEP_MILLIS.get();
+	}
+
 	/**
 	 * Gets the screenshot path
 	 *
@@ -214,6 +808,7 @@ public class CommonFunctions {
 	 */
 	public void setScreenShotsPath(String screenShotsPath) {
 		this.screenShotsPath = screenShotsPath;
+		resetScreenShotDeduplication();
 	}
 
 	/**
@@ -328,9 +923,26 @@ public class CommonFunctions {
 	 */
 	public WebDriverWait webDriverWait(WebDriver driver, int maxTimeout){
 		
+		return webDriverWait(driver, maxTimeout, this.adaptivePolling ? new AdaptiveSleeper(null, maxTimeout) : null);
+	}
+
+	/**
+	 * Web driver wait with the adaptive sleeper.
+	 *
+	 * @param driver     the driver
+	 * @param maxTimeout the max timeout in seconds
+	 * @param sleeper    the adaptive sleeper, null to use the fixed polling
+	 * @return the webDriverWait
+	 */
+	private WebDriverWait webDriverWait(WebDriver driver, int maxTimeout, AdaptiveSleeper sleeper) {
+
 		Duration duration = Duration.ofSeconds(maxTimeout);
-		
-		return new WebDriverWait(driver, duration);
+
+		if (sleeper == null) {
+			return new WebDriverWait(driver, duration);
+		}
+		return new WebDriverWait(driver, duration, Duration.ofMillis(AdaptiveSleeper.FAST_POLLING_MILLIS),
+				Clock.systemDefaultZone(), sleeper);
 	}
 	
 	/**
@@ -348,27 +960,205 @@ public class CommonFunctions {
 	}
 
 	/**
-	 * Wait for element by locator.
+	 * Wait for the page to be ready, see {@link #waitForPageReady(WebDriver, int)}.
 	 *
-	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param byLocator         the by locator
-	 * @param expectedCondition the expected condition<br>
-	 *                          <font color='blue'>Note : Below is the list of
-	 *                          options supported for this method
-	 *                          <ul>
-	 *                          <li>CLICKABLE</li>
-	 *                          <li>PRESENCE</li>
-	 *                          <li>VISIBLE</li>
-	 *                          </ul>
-	 *                          </font>
-	 * @return the web element
-	 * @throws Exception the exception
+	 * @param driver the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @return true, if the page is ready with in the timeout
 	 */
-	public WebElement waitForElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition)
-			throws Exception {
-		this.logAccess.getLogger()
-				.debug("waiting for element to be " + expectedCondition.toString() + " :- " + byLocator);
-		return waitUntilElement(driver, byLocator, expectedCondition, CommonVariables.MED_TIMEOUT);
+	public boolean waitForPageReady(WebDriver driver) {
+		return waitForPageReady(driver, CommonVariables.MED_TIMEOUT);
+	}
+
+	/**
+	 * Wait for the page to be ready, in a single asynchronous script the page is
+	 * considered as ready when
+	 * <ul>
+	 * <li>document.readyState is complete</li>
+	 * <li>there are no pending fetch/XHR requests and no new network request for
+	 * {@link CommonVariables#PAGE_NETWORK_IDLE_TIME PAGE_NETWORK_IDLE_TIME}
+	 * ms</li>
+	 * <li>Angular (testabilities are stable) / AngularJS (no pending $http
+	 * requests) is idle</li>
+	 * <li>browser is idle (requestIdleCallback), so that the pending rendering
+	 * (eg: React) is done</li>
+	 * </ul>
+	 * <font color="blue"><b>Note:</b> The fetch/XHR requests are tracked from the
+	 * first call on the page, requests started before that are covered by the
+	 * network idle time. The check is started again on the new page when the
+	 * page navigates while it is running, the other driver errors are thrown
+	 * right away.</font>
+	 *
+	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param maxTimeout the max timeout in seconds
+	 * @return true, if the page is ready with in the timeout
+	 */
+	public boolean waitForPageReady(WebDriver driver, int maxTimeout) {
+		this.logAccess.getLogger().debug("waiting for page to be ready");
+		String javaScript = "var timeout = arguments[0], idleTime = arguments[1], done = arguments[arguments.length - 1];"
+				+ "var deadline = Date.now() + timeout, resourceCount = -1, quietSince = Date.now();"
+				+ "if (!window.__fwNetwork) {"
+				+ " var network = window.__fwNetwork = {pending: 0};"
+				+ " if (window.fetch) { var originalFetch = window.fetch;"
+				+ "  window.fetch = function() { network.pending++;"
+				+ "   return originalFetch.apply(this, arguments).finally(function() { network.pending--; }); }; }"
+				+ " var originalSend = XMLHttpRequest.prototype.send;"
+				+ " XMLHttpRequest.prototype.send = function() { network.pending++;"
+				+ "  this.addEventListener('loadend', function() { network.pending--; });"
+				+ "  try { return originalSend.apply(this, arguments); } catch (err) { network.pending--; throw err; } };"
+				+ "}"
+				+ "function isFrameworkIdle() {"
+				+ " try {"
+				+ "  if (window.getAllAngularTestabilities) {"
+				+ "   return window.getAllAngularTestabilities().every(function(testability) { return testability.isStable(); }); }"
+				+ "  if (window.angular && window.angular.element) {"
+				+ "   var injector = window.angular.element(document.body).injector();"
+				+ "   if (injector) { return injector.get('$http').pendingRequests.length === 0; } }"
+				+ " } catch (err) { }"
+				+ " return true;"
+				+ "}"
+				+ "function check() {"
+				+ " var count = performance.getEntriesByType('resource').length;"
+				+ " if (count !== resourceCount) { resourceCount = count; quietSince = Date.now(); }"
+				+ " if (document.readyState === 'complete' && window.__fwNetwork.pending <= 0"
+				+ "  && Date.now() - quietSince >= idleTime && isFrameworkIdle()) {"
+				+ "  if (window.requestIdleCallback) { requestIdleCallback(function() { done(true); }, {timeout: idleTime}); }"
+				+ "  else { done(true); }"
+				+ "  return;"
+				+ " }"
+				+ " if (Date.now() > deadline) { done(false); return; }"
+				+ " setTimeout(check, 50);"
+				+ "}"
+				+ "check();";
+
+		long endTimestamp = System.currentTimeMillis() + maxTimeout * 1000L;
+		while (true) {
+			long remainingTime = Math.max(0, endTimestamp - System.currentTimeMillis());
+			try {
+				boolean isPageReady = Boolean.TRUE.equals(executeAsyncJs(driver, (int) (remainingTime / 1000) + 1,
+						javaScript, remainingTime, CommonVariables.PAGE_NETWORK_IDLE_TIME));
+				if (!isPageReady) {
+					this.logAccess.getLogger().warn("Page is not ready after " + maxTimeout + " seconds");
+				}
+				return isPageReady;
+			} catch (JavascriptException javascriptException) {
+				// page navigated (unloaded) while the script is running, check the new page
+				// other errors (eg: session is closed, browser is unreachable) are not retried
+				String message = String.valueOf(javascriptException.getMessage());
+				if (!message.toLowerCase().contains("unloaded")) {
+					throw javascriptException;
+				}
+				if (System.currentTimeMillis() >= endTimestamp) {
+					this.logAccess.getLogger().warn("Page is not ready after " + maxTimeout + " seconds :- "
+							+ javascriptException.getMessage());
+					return false;
+				}
+			}
+			try {
+				// give the new page a moment to start loading
+				Thread.sleep(CommonVariables.PAGE_READY_POLLING_TIME);
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Wait for the SPA framework to be idle, in a single asynchronous script
+	 * using the stability hook of the framework rather than polling
+	 * <ul>
+	 * <li>Angular - whenStable of all the testabilities</li>
+	 * <li>AngularJS - $browser notifyWhenNoOutstandingRequests</li>
+	 * <li>React/others - browser idle (requestIdleCallback), i.e. the scheduler
+	 * has no pending rendering work</li>
+	 * </ul>
+	 * <font color="blue"><b>Note:</b> Script is bounded by the script timeout of
+	 * the driver as well, false is returned when it is exceeded.</font>
+	 *
+	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param maxTimeout the max timeout in seconds
+	 * @return true, if the framework is idle with in the timeout
+	 */
+	public boolean waitForSpaIdle(WebDriver driver, int maxTimeout) {
+		return waitForSpaIdle(driver, maxTimeout * 1000L, false);
+	}
+
+	/**
+	 * Wait for the SPA framework to be idle, the timeout is logged only once per
+	 * page.
+	 *
+	 * @param driver             the driver
+	 * @param timeoutMillis      the timeout in milliseconds
+	 * @param isSkipTimedOutPage true to not wait on the page where the sync has
+	 *                           timed out earlier (the page never becomes idle)
+	 * @return true, if the framework is idle with in the timeout
+	 */
+	private boolean waitForSpaIdle(WebDriver driver, long timeoutMillis, boolean isSkipTimedOutPage) {
+		String javaScript = "var timeout = arguments[0], idleTime = arguments[1], done = arguments[arguments.length - 1];"
+				+ "if (arguments[2] && window.__fwSpaTimedOut) { done(false); return; }"
+				+ "var isDone = false;"
+				+ "function finish(status) { if (!isDone) { isDone = true; clearTimeout(timer); done(status); } }"
+				// the first timeout of the page is reported, so that it is logged once per page
+				+ "var timer = setTimeout(function() {"
+				+ " var isFirst = !window.__fwSpaTimedOut; window.__fwSpaTimedOut = true;"
+				+ " finish(isFirst ? 'FIRST_TIMEOUT' : false); }, timeout);"
+				+ "function idle() {"
+				+ " if (window.requestIdleCallback) { requestIdleCallback(function() { finish(true); }, {timeout: idleTime}); }"
+				+ " else { setTimeout(function() { finish(true); }, 0); }"
+				+ "}"
+				+ "try {"
+				+ " if (window.getAllAngularTestabilities) {"
+				+ "  var testabilities = window.getAllAngularTestabilities(), pending = testabilities.length;"
+				+ "  if (!pending) { idle(); return; }"
+				+ "  testabilities.forEach(function(testability) {"
+				+ "   testability.whenStable(function() { if (--pending === 0) { idle(); } }); });"
+				+ "  return;"
+				+ " }"
+				+ " if (window.angular && window.angular.element) {"
+				+ "  var root = document.querySelector('[ng-app], [data-ng-app]') || document.body;"
+				+ "  var injector = window.angular.element(root).injector();"
+				+ "  if (injector) { injector.get('$browser').notifyWhenNoOutstandingRequests(idle); return; }"
+				+ " }"
+				+ "} catch (err) { }"
+				+ "idle();";
+		try {
+			// script timeout of the driver is not changed, as this is called before every element wait
+			Object status = ((JavascriptExecutor) driver).executeAsyncScript(javaScript, timeoutMillis,
+					CommonVariables.PAGE_NETWORK_IDLE_TIME, isSkipTimedOutPage);
+			if ("FIRST_TIMEOUT".equals(status)) {
+				this.logAccess.getLogger().warn("SPA framework is not idle with in " + timeoutMillis
+						+ " ms, continuing without the sync for the element waits on this page");
+			}
+			return Boolean.TRUE.equals(status);
+		} catch (WebDriverException webDriverException) {
+			// script timed out or page navigated, element checks will take care of the rest
+			this.logAccess.getLogger().debug("SPA framework is not idle :- " + webDriverException.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Wait for element by locator.
+	 *
+	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocator         the by locator
+	 * @param expectedCondition the expected condition<br>
+	 *                          <font color='blue'>Note : Below is the list of
+	 *                          options supported for this method
+	 *                          <ul>
+	 *                          <li>CLICKABLE</li>
+	 *                          <li>PRESENCE</li>
+	 *                          <li>VISIBLE</li>
+	 *                          </ul>
+	 *                          </font>
+	 * @return the web element
+	 * @throws Exception the exception
+	 */
+	public WebElement waitForElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition)
+			throws Exception {
+		this.logAccess.getLogger()
+				.debug("waiting for element to be " + expectedCondition.toString() + " :- " + byLocator);
+		return waitUntilElement(driver, byLocator, expectedCondition, CommonVariables.MED_TIMEOUT);
 	}
 	
 	/**
@@ -470,10 +1260,116 @@ public class CommonFunctions {
 	 */
 	public List<WebElement> waitForElementsToVisible(WebDriver driver, By byLocator, int maxTimeOut) {
 		this.logAccess.getLogger().debug("waiting for all specified elements in the list to be visible " + byLocator);
+		prepareLocatorContext(driver, byLocator);
 		return (webDriverWait(driver, maxTimeOut))
 				.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(byLocator));
 	}
 
+	/**
+	 * Wait for multiple elements in a single polling loop. All the locators are
+	 * checked in one JavaScript call per poll, rather one wait per element.
+	 *
+	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param locatorConditions the by locators and the expected condition for each
+	 *                          of them<br>
+	 *                          <font color='blue'>Note : Below is the list of
+	 *                          options supported for this method
+	 *                          <ul>
+	 *                          <li>CLICKABLE</li>
+	 *                          <li>PRESENCE</li>
+	 *                          <li>VISIBLE</li>
+	 *                          </ul>
+	 *                          </font>
+	 * @return the resolved elements keyed by the locator (in the same order as the
+	 * input)
+	 * @throws Exception the exception
+	 */
+	public Map<By, WebElement> waitForElements(WebDriver driver, Map<By, ExpectedConditionsEnums> locatorConditions)
+			throws Exception {
+		return waitForElements(driver, locatorConditions, CommonVariables.MED_TIMEOUT);
+	}
+
+	/**
+	 * Wait for multiple elements in a single polling loop. All the locators are
+	 * checked in one JavaScript call per poll, rather one wait per element.<br>
+	 * <font color='blue'>Note : Elements will not be scrolled to the center as
+	 * part of this wait. {@link ByFrame} locators can be waited together only
+	 * when all the locators are of the same frame.</font>
+	 *
+	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param locatorConditions the by locators and the expected condition for each
+	 *                          of them
+	 * @param maxTimeout        the max timeout in seconds
+	 * @return the resolved elements keyed by the locator (in the same order as the
+	 * input)
+	 * @throws Exception the exception
+	 */
+	public Map<By, WebElement> waitForElements(WebDriver driver, Map<By, ExpectedConditionsEnums> locatorConditions,
+											   int maxTimeout) throws Exception {
+		this.logAccess.getLogger().debug("waiting for elements :- " + locatorConditions);
+		List<By> locators = new ArrayList<>(locatorConditions.keySet());
+		// all the elements are checked in a single frame
+		List<By> framePath = null;
+		List<By> frameLocators = new ArrayList<>();
+		for (By locator : locators) {
+			List<By> locatorFramePath = (locator instanceof ByFrame) ? ((ByFrame) locator).getFramePath()
+					: Collections.emptyList();
+			if (framePath != null && !framePath.equals(locatorFramePath)) {
+				throw new IllegalArgumentException(
+						"Elements of the different frames can't be waited together :- " + locators);
+			}
+			framePath = locatorFramePath;
+			frameLocators.add((locator instanceof ByFrame) ? ((ByFrame) locator).getByLocator() : locator);
+		}
+		if (framePath != null && !framePath.isEmpty()) {
+			ByFrame.switchToFrame(driver, framePath);
+			this.frameLocatorDriver = driver;
+		} else if (!locators.isEmpty()) {
+			prepareLocatorContext(driver, locators.get(0));
+		}
+		List<Map<String, Object>> queries = new ArrayList<>();
+		for (int index = 0; index < locators.size(); index++) {
+			Map<String, Object> query = getLocatorQuery(frameLocators.get(index));
+			if (query != null) {
+				query.put("condition", locatorConditions.get(locators.get(index)).toString());
+			}
+			queries.add(query);
+		}
+
+		// locators still pending after the last poll, used for the timeout message
+		List<By> pendingLocators = new ArrayList<>(locators);
+		List<Object> resolvedElements = webDriverWait(driver, maxTimeout)
+				.withMessage(() -> "waiting for elements " + pendingLocators)
+				.until(wd -> {
+					@SuppressWarnings("unchecked")
+					List<Object> found = (List<Object>) ((JavascriptExecutor) wd).executeScript(
+							JS_LOCATOR_FUNCTIONS + "return arguments[0].map(function(query){"
+									+ "if(!query){return null;} var ele = fwLocate(query, document);"
+									+ "return (ele && fwMatches(ele, query.condition)) ? ele : null;});",
+							queries);
+					pendingLocators.clear();
+					for (int index = 0; index < locators.size(); index++) {
+						// locators which can't be expressed in JavaScript are checked natively
+						if (queries.get(index) == null) {
+							found.set(index, findMatchingElement(wd, frameLocators.get(index),
+									locatorConditions.get(locators.get(index))));
+						}
+						if (found.get(index) == null) {
+							pendingLocators.add(locators.get(index));
+						}
+					}
+					return pendingLocators.isEmpty() ? found : null;
+				});
+
+		Map<By, WebElement> elements = new LinkedHashMap<>();
+		Object pageToken = this.locatorCacheEnabled ? getPageToken(driver) : null;
+		for (int index = 0; index < locators.size(); index++) {
+			elements.put(locators.get(index), (WebElement) resolvedElements.get(index));
+			if (this.locatorCacheEnabled) this.locatorCache.put(driver, locators.get(index), (WebElement) resolvedElements.get(index), pageToken);
+		}
+		return elements;
+	}
+
 	/**
 	 * Wait for invisibility of element. Method will wait for
 	 * {@link CommonVariables#MIN_TIMEOUT} before checking for element invisibility.
@@ -513,9 +1409,15 @@ public class CommonFunctions {
 			// ignore the exception and continue with the script
 		}
 
-		long currentTimestamp = (new Date()).getTime();
-		int waitingSeconds = maxTimeout * 1000;
-		long endTimestamp = currentTimestamp + waitingSeconds;
+		// time spent by the observer is part of the wait, polling gets only the time left
+		long endTimestamp = System.currentTimeMillis() + maxTimeout * 1000L;
+
+		if (this.invisibilityObserverMode) {
+			Boolean isElementInvisible = observeInvisibility(driver, element, maxTimeout);
+			if (isElementInvisible != null) {
+				return isElementInvisible;
+			}
+		}
 
 		boolean isElementVisible = true;
 
@@ -533,7 +1435,7 @@ public class CommonFunctions {
 
 				}
 				Thread.sleep(500);
-			} while ((new Date()).getTime() < endTimestamp && isElementVisible);
+			} while (System.currentTimeMillis() < endTimestamp && isElementVisible);
 		} catch (NoSuchElementException | StaleElementReferenceException ignoreException) {
 			// intentionally left it blank (we can ignore the above exceptions when waiting
 			// for element in-visibility)
@@ -577,9 +1479,16 @@ public class CommonFunctions {
 			// ignore the exception and continue with the script
 		}
 
-		long currentTimestamp = (new Date()).getTime();
-		int waitingSeconds = maxTimeout * 1000;
-		long endTimestamp = currentTimestamp + waitingSeconds;
+		// time spent by the observer is part of the wait, polling gets only the time left
+		long endTimestamp = System.currentTimeMillis() + maxTimeout * 1000L;
+
+		if (this.invisibilityObserverMode) {
+			Map<String, Object> query = getLocatorQuery(byLocator);
+			Boolean isElementInvisible = (query == null) ? null : observeInvisibility(driver, query, maxTimeout);
+			if (isElementInvisible != null) {
+				return isElementInvisible;
+			}
+		}
 
 		boolean isElementVisible = true;
 
@@ -594,7 +1503,7 @@ public class CommonFunctions {
 					isElementVisible = isElementDisplayed(driver, byLocator, CommonVariables.NO_TIMEOUT);
 				}
 				Thread.sleep(500);
-			} while ((new Date()).getTime() < endTimestamp && isElementVisible);
+			} while (System.currentTimeMillis() < endTimestamp && isElementVisible);
 		} catch (NoSuchElementException | StaleElementReferenceException ignoreException) {
 			// intentionally left it blank (we can ignore the above exceptions when waiting
 			// for element in-visibility)
@@ -603,7 +1512,10 @@ public class CommonFunctions {
 	}
 
 	/**
-	 * Checks if is element present.
+	 * Checks if is element present.<br>
+	 * <font color='blue'>Note : This method will wait for max of
+	 * {@link #getNegativeAssertionTimeout() negative assertion timeout} seconds,
+	 * which is {@link CommonVariables#MED_TIMEOUT} by default.</font>
 	 *
 	 * @param driver  the {@link org.openqa.selenium.WebDriver WebDriver}
 	 * @param element the {@link org.openqa.selenium.WebElement element}
@@ -611,18 +1523,7 @@ public class CommonFunctions {
 	 */
 	// is element present
 	public boolean isElementPresent(WebDriver driver, WebElement element) {
-		this.logAccess.getLogger().info("checking if element is present  :- " + element);
-		// wait for the {@link org.openqa.selenium.WebElement element} to present
-		try {
-			WebElement targetEle = waitForElement(driver, element, ExpectedConditionsEnums.PRESENCE, CommonVariables.MED_TIMEOUT);
-			// return true if the element is present
-			return targetEle != null;
-
-		} catch (Exception e) {
-			// return false if the element is not
-			// present
-			return false;
-		}
+		return isElementPresent(driver, element, this.negativeAssertionTimeout);
 	}
 
 	/**
@@ -635,6 +1536,9 @@ public class CommonFunctions {
 	 */
 	public boolean isElementPresent(WebDriver driver, WebElement element, int maxTimeout) {
 		this.logAccess.getLogger().info("checking if element is present  :- " + element);
+		if (maxTimeout == CommonVariables.NO_TIMEOUT) {
+			return probeElement(element, ExpectedConditionsEnums.PRESENCE);
+		}
 		// wait for the {@link org.openqa.selenium.WebElement element} to present for
 		// specified time
 		try {
@@ -651,27 +1555,17 @@ public class CommonFunctions {
 	}
 
 	/**
-	 * Checks if is element present by locator.
+	 * Checks if is element present by locator.<br>
+	 * <font color='blue'>Note : This method will wait for max of
+	 * {@link #getNegativeAssertionTimeout() negative assertion timeout} seconds,
+	 * which is {@link CommonVariables#MED_TIMEOUT} by default.</font>
 	 *
 	 * @param driver    the {@link org.openqa.selenium.WebDriver WebDriver}
 	 * @param byLocator the by locator
 	 * @return true, if is element present by locator
 	 */
 	public boolean isElementPresent(WebDriver driver, By byLocator) {
-		this.logAccess.getLogger().info("checking if element is present  :- " + byLocator);
-		// wait for the {@link org.openqa.selenium.WebElement element} to present for
-		// specified time
-		try {
-			WebElement targetEle = waitForElement(driver, byLocator, ExpectedConditionsEnums.PRESENCE, CommonVariables.MED_TIMEOUT);
-
-			// return true if the /element is visible
-			return targetEle != null;
-
-		} catch (Exception e) {
-			// return false if the element is not
-			// visible
-			return false;
-		}
+		return isElementPresent(driver, byLocator, this.negativeAssertionTimeout);
 	}
 
 	/**
@@ -684,6 +1578,9 @@ public class CommonFunctions {
 	 */
 	public boolean isElementPresent(WebDriver driver, By byLocator, int maxTimeout) {
 		this.logAccess.getLogger().info("checking if element is present  :- " + byLocator);
+		if (maxTimeout == CommonVariables.NO_TIMEOUT) {
+			return probeElement(driver, byLocator, ExpectedConditionsEnums.PRESENCE) != null;
+		}
 		// wait for the {@link org.openqa.selenium.WebElement element} to present for
 		// specified time
 		try {
@@ -706,20 +1603,7 @@ public class CommonFunctions {
 	 * @return true, if is element displayed by locator
 	 */
 	public boolean isElementDisplayed(WebDriver driver, By byLocator, int maxTimeout) {
-		this.logAccess.getLogger().info("checking if element is displayed  :- " + byLocator);
-		// wait for the {@link org.openqa.selenium.WebElement element} to present for
-		// specified time
-		try {
-			WebElement targetEle = waitForElement(driver, byLocator, ExpectedConditionsEnums.VISIBLE, maxTimeout);
-
-			// return true if the element is visible
-			return targetEle != null;
-
-		} catch (Exception e) {
-			// return false if the element is not
-			// visible
-			return false;
-		}
+		return isElementDisplayed(driver, byLocator, maxTimeout, true);
 	}
 	
 	/**
@@ -733,6 +1617,9 @@ public class CommonFunctions {
 	 */
 	public boolean isElementDisplayed(WebDriver driver, By byLocator, int maxTimeout, boolean isScrollElementToCenter) {
 		this.logAccess.getLogger().info("checking if element is displayed  :- " + byLocator);
+		if (maxTimeout == CommonVariables.NO_TIMEOUT) {
+			return probeElement(driver, byLocator, ExpectedConditionsEnums.VISIBLE) != null;
+		}
 		// wait for the {@link org.openqa.selenium.WebElement element} to present for
 		// specified time
 		try {
@@ -756,7 +1643,7 @@ public class CommonFunctions {
 	 * @return true, if is element displayed
 	 */
 	public boolean isElementDisplayed(WebDriver driver, By byLocator) {
-		return isElementDisplayed(driver, byLocator, CommonVariables.MED_TIMEOUT, true);
+		return isElementDisplayed(driver, byLocator, this.negativeAssertionTimeout, true);
 	}
 	
 	/**
@@ -768,7 +1655,7 @@ public class CommonFunctions {
 	 * @return true, if is element displayed
 	 */
 	public boolean isElementDisplayed(WebDriver driver, By byLocator, boolean isScrollElementToCenter) {
-		return isElementDisplayed(driver, byLocator, CommonVariables.MED_TIMEOUT, isScrollElementToCenter);
+		return isElementDisplayed(driver, byLocator, this.negativeAssertionTimeout, isScrollElementToCenter);
 	}
 
 	/**
@@ -794,6 +1681,9 @@ public class CommonFunctions {
 	 */
 	public boolean isElementDisplayed(WebDriver driver, WebElement element, int maxTimeout, boolean isScrollElementToCenter) {
 		this.logAccess.getLogger().info("checking if element is displayed  :- " + element);
+		if (maxTimeout == CommonVariables.NO_TIMEOUT) {
+			return probeElement(element, ExpectedConditionsEnums.VISIBLE);
+		}
 		try {
 			WebElement targetEle = waitForElement(driver, element, ExpectedConditionsEnums.VISIBLE, maxTimeout, isScrollElementToCenter);
 			// return true if the element is visible
@@ -813,7 +1703,7 @@ public class CommonFunctions {
 	 * @return true, if is element displayed
 	 */
 	public boolean isElementDisplayed(WebDriver driver, WebElement element) {
-		return isElementDisplayed(driver, element, CommonVariables.MED_TIMEOUT, true);
+		return isElementDisplayed(driver, element, this.negativeAssertionTimeout, true);
 	}
 	
 	/**
@@ -825,18 +1715,21 @@ public class CommonFunctions {
 	 * @return true, if is element displayed
 	 */
 	public boolean isElementDisplayed(WebDriver driver, WebElement element, boolean isScrollElementToCenter) {
-		return isElementDisplayed(driver, element, CommonVariables.MED_TIMEOUT, isScrollElementToCenter);
+		return isElementDisplayed(driver, element, this.negativeAssertionTimeout, isScrollElementToCenter);
 	}
 
 	/**
-	 * Checks if is element enabled.
+	 * Checks if is element enabled.<br>
+	 * <font color='blue'>Note : This method will keep checking for max of
+	 * {@link #getNegativeAssertionTimeout() negative assertion timeout} seconds,
+	 * which is {@link CommonVariables#MED_TIMEOUT} by default.</font>
 	 *
 	 * @param driver  the {@link org.openqa.selenium.WebDriver WebDriver}
 	 * @param element the {@link org.openqa.selenium.WebElement element}
 	 * @return true, if is element enabled
 	 */
 	public boolean isElementEnabled(WebDriver driver, WebElement element) {
-		return isElementEnabled(driver, element, CommonVariables.MED_TIMEOUT);
+		return isElementEnabled(driver, element, this.negativeAssertionTimeout);
 
 	}
 
@@ -862,8 +1755,9 @@ public class CommonFunctions {
 	/**
 	 * Checks if is element enabled by locator.<br>
 	 * <font color='blue'>Note :<br>
-	 * This method will keep checking for max of {@link CommonVariables#MED_TIMEOUT}
-	 * seconds<
+	 * This method will keep checking for max of
+	 * {@link #getNegativeAssertionTimeout() negative assertion timeout} seconds,
+	 * which is {@link CommonVariables#MED_TIMEOUT} by default.</font>
 	 *
 	 * @param driver    the {@link org.openqa.selenium.WebDriver WebDriver}
 	 * @param byLocator the by locator
@@ -872,7 +1766,7 @@ public class CommonFunctions {
 	 */
 	public boolean isElementEnabled(WebDriver driver, By byLocator) throws Exception {
 
-		return isElementEnabled(driver, byLocator, CommonVariables.MED_TIMEOUT);
+		return isElementEnabled(driver, byLocator, this.negativeAssertionTimeout);
 	}
 
 	/**
@@ -886,6 +1780,9 @@ public class CommonFunctions {
 	 */
 	public boolean isElementEnabled(WebDriver driver, By byLocator, int maxTimeout) throws Exception {
 		this.logAccess.getLogger().info("checking if element is enabled  :- " + byLocator);
+		if (maxTimeout == CommonVariables.NO_TIMEOUT) {
+			return probeElement(driver, byLocator, ExpectedConditionsEnums.CLICKABLE) != null;
+		}
 		long currentTimestamp = (new Date()).getTime();
 		long endTimestamp = currentTimestamp + maxTimeout * 1000L;
 		boolean conditionalCheck = false;
@@ -939,19 +1836,8 @@ public class CommonFunctions {
 		String originalStyle = "";
 		try {
 			this.logAccess.getLogger().debug("Highlighting element" + (bordersOnly ? " border" : "") + ":- " + element);
-			// get the original
-			originalStyle = getOriginalStyle(element);
-			// scroll element to the center
-			if(isScrollElementToCenter) scrollElement(driver, element, "center");
-			String highlightJavaScript;
-			if (bordersOnly) {
-				// highlight the web element
-				highlightJavaScript = "arguments[0].style.border=\"3px solid \"" + this.highlightBgColor + "\";";
-			} else {
-				// highlight the web element
-				highlightJavaScript = "arguments[0].style.background=\"" + this.highlightBgColor + "\";";
-			}
-			executeJs(driver, element, highlightJavaScript);
+			// get the original style, scroll and highlight the element in one go
+			originalStyle = highlight(driver, element, bordersOnly, isScrollElementToCenter);
 		} catch (Exception e) {
 			//ignore exception as sometimes the element might either not exist
 			// or might get refreshed
@@ -1194,31 +2080,37 @@ public class CommonFunctions {
 	// click element
 	public void clickOnElement(WebDriver driver, WebElement element, boolean isCaptureScreenShot, boolean captureBefore,
 							   String screenShotName, int maxTimeOut) throws Exception {
+		this.retryPolicy.execute(() -> {
+			performClick(driver, element, isCaptureScreenShot, captureBefore, screenShotName, maxTimeOut);
+			return null;
+		}, exception -> prepareRetry(driver, null, element, exception));
+	}
+
+	/**
+	 * Click on element (without the retry policy).
+	 *
+	 * @param driver              the driver
+	 * @param element             the element
+	 * @param isCaptureScreenShot the is capture screen shot
+	 * @param captureBefore       the capture before
+	 * @param screenShotName      the screen shot name
+	 * @param maxTimeOut          the maximum time to wait for the element
+	 * @throws Exception the exception
+	 */
+	private void performClick(WebDriver driver, WebElement element, boolean isCaptureScreenShot, boolean captureBefore,
+							  String screenShotName, int maxTimeOut) throws Exception {
 		this.logAccess.getLogger().info("Clicking on element  :- " + element);
 
 		WebElement tempElement = getElement(driver, element, maxTimeOut);
-		// highlight element
-		String originalStyle = highlightElement(driver, tempElement);
-		// capture before (private capture screenshot)
-		if (isCaptureScreenShot && captureBefore) {
-			// take screenshot
-			captureScreenShot(driver, screenShotName);
-		}
-		// un-highlight
-		unHighlightElement(driver, tempElement, originalStyle);
+		// highlight element and capture before (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenShot && captureBefore, screenShotName);
 
 		tempElement.click();
 
 		// capture after (private capture screenshot)
 		if (isCaptureScreenShot && !captureBefore) {
-
-			// highlight element
-			originalStyle = highlightElement(driver, tempElement);
-
-			// take screenshot
-			captureScreenShot(driver, screenShotName);
-			// un-highlight
-			unHighlightElement(driver, tempElement, originalStyle);
+			// highlight element and take screenshot
+			captureElementEvidence(driver, tempElement, true, screenShotName);
 		}
 
 	}
@@ -1252,8 +2144,12 @@ public class CommonFunctions {
 	 */
 	public void clickOnElement(WebDriver driver, By byLocator, boolean isCaptureScreenShot, boolean captureBefore,
 							   String screenShotName, int maxTimeOut) throws Exception {
-		WebElement element = getElement(driver, byLocator);
-		clickOnElement(driver, element, isCaptureScreenShot, captureBefore, screenShotName, maxTimeOut);
+		// element is resolved with in the retry, so that the stale element is resolved again
+		executeOnLocator(driver, byLocator, () -> {
+			WebElement element = getElement(driver, byLocator);
+			performClick(driver, element, isCaptureScreenShot, captureBefore, screenShotName, maxTimeOut);
+			return null;
+		});
 	}
 
 	/**
@@ -1305,12 +2201,31 @@ public class CommonFunctions {
 	 */
 	public void inputValue(WebDriver driver, WebElement element, String value, boolean isCaptureScreenshot,
 						   String screenShotName, int maxTimeOut) throws Exception {
+		this.retryPolicy.execute(() -> {
+			performInputValue(driver, element, value, isCaptureScreenshot, screenShotName, maxTimeOut);
+			return null;
+		}, exception -> prepareRetry(driver, null, element, exception));
+	}
+
+	/**
+	 * Input value (without the retry policy).
+	 *
+	 * @param driver              the driver
+	 * @param element             the element
+	 * @param value               the value to be set in the element
+	 * @param isCaptureScreenshot toggle to capture screenshot
+	 * @param screenShotName      the screen shot name
+	 * @param maxTimeOut          the maximum time to wait for the element
+	 * @throws Exception the exception
+	 */
+	private void performInputValue(WebDriver driver, WebElement element, String value, boolean isCaptureScreenshot,
+								   String screenShotName, int maxTimeOut) throws Exception {
 
 		this.logAccess.getLogger().info("Element :- " + element);
 		// get the element
 		WebElement tempElement = getElement(driver, element, maxTimeOut);
 
-		if (isElementEnabled(driver, tempElement)) {
+		if (isElementEnabled(driver, tempElement, maxTimeOut)) {
 
 			// Check if the tag name is input, there are cases where we can enter the
 			// data but the field is not input and it's not possible to check the type
@@ -1332,14 +2247,8 @@ public class CommonFunctions {
 			// enter value in the field
 			tempElement.sendKeys(value);
 
-			// highlight element
-			String originalStyle = highlightElement(driver, tempElement);
-			// capture (private capture screenshot)
-			if (isCaptureScreenshot) {
-				captureScreenShot(driver, screenShotName);
-			}
-			// un-highlight
-			unHighlightElement(driver, tempElement, originalStyle);
+			// highlight element and capture (private capture screenshot)
+			captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
 		} else {
 			throw new ElementNotInteractableException(tempElement + " is disabled.");
 		}
@@ -1358,8 +2267,12 @@ public class CommonFunctions {
 	 */
 	public void inputValue(WebDriver driver, By byLocator, String value, boolean isCaptureScreenshot,
 						   String screenShotName, int maxTimeOut) throws Exception {
-		WebElement element = getElement(driver, byLocator);
-		inputValue(driver, element, value, isCaptureScreenshot, screenShotName, maxTimeOut);
+		// element is resolved with in the retry, so that the stale element is resolved again
+		executeOnLocator(driver, byLocator, () -> {
+			WebElement element = getElement(driver, byLocator);
+			performInputValue(driver, element, value, isCaptureScreenshot, screenShotName, maxTimeOut);
+			return null;
+		});
 	}
 
 	/**
@@ -1378,132 +2291,457 @@ public class CommonFunctions {
 	}
 
 	/**
-	 * Gets number of options(list items) in the list
+	 * Performs the sequence of actions (click/input value) of the
+	 * {@link ActionScript action script}.<br>
+	 * <br>
+	 * Wait (for the element to be clickable), scroll and the action of all the
+	 * steps are done in a single asynchronous script, steps which are not safe to
+	 * be done with JavaScript are performed with the native WebDriver events and
+	 * the script continues from the next step. Script is started again after each
+	 * click (which might navigate) and for each step which has to be waited, so
+	 * that each script waits for max of one timeout.<br>
+	 * <font color="blue"><b>Note:</b> Values are set with the native value setter
+	 * followed by the input and change events, use
+	 * {@link ActionScript#nativeInputValue(By, String) nativeInputValue} for the
+	 * fields which depend on the key events.</font>
 	 *
 	 * @param driver              the {@link org.openqa.selenium.WebDriver
 	 *                            WebDriver}
-	 * @param element             the {@link org.openqa.selenium.WebElement element}
-	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param actionScript        the action script
+	 * @param isCaptureScreenShot toggle to capture screenshot after all the
+	 *                            actions
 	 * @param screenShotName      the screenshot name <br>
 	 *                            Date time Stamp will be <i>prepended</i> to the
 	 *                            screenshot name by default.<br>
 	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
 	 *                            setter to set the path where you want to store the
 	 *                            screenshots.
-	 * @return number of options(list items) in the list
 	 * @throws Exception the exception
 	 */
-	public int getNumberOfListItems(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
-									String screenShotName) throws Exception {
-		// get the element
-		WebElement tempElement = getElement(driver, element);
-
-		// select item by index
-		Select listElement = new Select(tempElement);
-
-		// get the number of options
-		return listElement.getOptions().size();
+	public void performActions(WebDriver driver, ActionScript actionScript, boolean isCaptureScreenShot,
+							   String screenShotName) throws Exception {
+		performActions(driver, actionScript, isCaptureScreenShot, screenShotName, CommonVariables.MED_TIMEOUT);
 	}
 
 	/**
-	 * Gets number of options(list items) in the list
+	 * Performs the sequence of actions (click/input value) of the
+	 * {@link ActionScript action script}.<br>
+	 * <br>
+	 * Wait (for the element to be clickable), scroll and the action of all the
+	 * steps are done in a single asynchronous script, steps which are not safe to
+	 * be done with JavaScript are performed with the native WebDriver events and
+	 * the script continues from the next step. Script is started again after each
+	 * click (which might navigate) and for each step which has to be waited, so
+	 * that each script waits for max of one timeout.<br>
+	 * <font color="blue"><b>Note:</b> Values are set with the native value setter
+	 * followed by the input and change events, use
+	 * {@link ActionScript#nativeInputValue(By, String) nativeInputValue} for the
+	 * fields which depend on the key events.</font>
 	 *
 	 * @param driver              the {@link org.openqa.selenium.WebDriver
 	 *                            WebDriver}
-	 * @param byLocator           the by locator
-	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param actionScript        the action script
+	 * @param isCaptureScreenShot toggle to capture screenshot after all the
+	 *                            actions
 	 * @param screenShotName      the screenshot name <br>
 	 *                            Date time Stamp will be <i>prepended</i> to the
 	 *                            screenshot name by default.<br>
 	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
 	 *                            setter to set the path where you want to store the
 	 *                            screenshots.
-	 * @return number of options(list items) in the list
+	 * @param maxTimeOut          the maximum time to wait for the element of each
+	 *                            step
 	 * @throws Exception the exception
 	 */
-	public int getNumberOfListItems(WebDriver driver, By byLocator, boolean isCaptureScreenshot, String screenShotName)
-			throws Exception {
-		// get the element
-		WebElement tempElement = getElement(driver, byLocator);
+	public void performActions(WebDriver driver, ActionScript actionScript, boolean isCaptureScreenShot,
+							   String screenShotName, int maxTimeOut) throws Exception {
+		List<ActionScript.Step> steps = actionScript.getSteps();
+		this.logAccess.getLogger().info("Performing " + steps.size() + " actions :- " + steps);
+
+		List<Map<String, Object>> scriptSteps = new ArrayList<>();
+		for (ActionScript.Step step : steps) {
+			Map<String, Object> scriptStep = new HashMap<>();
+			scriptStep.put("action", step.getAction().name());
+			// non remotable locators (null query) are handed back to be resolved with WebDriver
+			scriptStep.put("query", getLocatorQuery(step.getByLocator()));
+			scriptStep.put("value", step.getValue());
+			scriptStep.put("native", step.isNative());
+			scriptSteps.add(scriptStep);
+		}
 
-		return getNumberOfListItems(driver, tempElement, isCaptureScreenshot, screenShotName);
+		String javaScript = JS_LOCATOR_FUNCTIONS
+				+ "var steps = arguments[0], timeout = arguments[2], scrollMode = arguments[3];"
+				+ "var done = arguments[arguments.length - 1], deadline = Date.now() + timeout;"
+				+ "function isNative(step, ele) {"
+				+ " if (step.native) { return true; }"
+				+ " if (step.action !== 'INPUT') { return false; }"
+				+ " var tag = ele.tagName.toLowerCase();"
+				+ " return ele.isContentEditable || (tag !== 'input' && tag !== 'textarea') || ele.type === 'file';"
+				+ "}"
+				+ "function setValue(ele, value) {"
+				// native setter is used so that the frameworks tracking the value (eg: React) get the change
+				+ " var proto = ele.tagName.toLowerCase() === 'textarea' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+				+ " ele.focus();"
+				+ " Object.getOwnPropertyDescriptor(proto, 'value').set.call(ele, value);"
+				+ " ele.dispatchEvent(new Event('input', {bubbles: true}));"
+				+ " ele.dispatchEvent(new Event('change', {bubbles: true}));"
+				+ "}"
+				+ "function run(index) {"
+				+ " for (; index < steps.length; index++) {"
+				+ "  var step = steps[index];"
+				+ "  if (!step.query) { done({index: index, element: null}); return; }"
+				+ "  var ele = fwLocate(step.query, document);"
+				+ "  if (!ele || !fwMatches(ele, 'CLICKABLE')) {"
+				// only the first step of the script is waited, so that the script timeout is of a single step
+				+ "   if (index !== first) { done({index: index, resume: true}); return; }"
+				+ "   if (Date.now() > deadline) { done({index: index, timeout: true}); return; }"
+				+ "   setTimeout(function() { run(index); }, 50); return;"
+				+ "  }"
+				+ "  if (scrollMode === 'ALWAYS') { ele.scrollIntoView({behavior: 'auto', block: 'center', inline: 'center'}); }"
+				+ "  else if (scrollMode === 'IF_NEEDED') { fwScrollIfNeeded(ele); }"
+				+ "  if (isNative(step, ele)) { done({index: index, element: ele}); return; }"
+				// click might navigate (eg: submit/link), the next step is done in a new script
+				+ "  if (step.action === 'CLICK') { ele.click(); done({index: index + 1, resume: true}); return; }"
+				+ "  setValue(ele, step.value);"
+				+ " }"
+				+ " done({index: steps.length});"
+				+ "}"
+				+ "var first = arguments[1];"
+				+ "run(first);";
+
+		int index = 0;
+		while (index < steps.size()) {
+			// only the first step of each script is waited for
+			@SuppressWarnings("unchecked")
+			Map<String, Object> result = (Map<String, Object>) executeAsyncJs(driver, maxTimeOut, javaScript,
+					scriptSteps, index, maxTimeOut * 1000L, this.scrollMode.name());
+			index = ((Number) result.get("index")).intValue();
+			if (index >= steps.size()) {
+				break;
+			}
+			if (Boolean.TRUE.equals(result.get("resume"))) {
+				// continue from the step in a new script
+				continue;
+			}
+
+			ActionScript.Step step = steps.get(index);
+			if (Boolean.TRUE.equals(result.get("timeout"))) {
+				throw new TimeoutException("Expected condition failed: waiting for element to be clickable: "
+						+ step.getByLocator() + " (tried for " + maxTimeOut + " second(s))");
+			}
+
+			// perform the step with the native WebDriver events
+			this.logAccess.getLogger().debug("Performing native action :- " + step);
+			WebElement element = (result.get("element") != null) ? (WebElement) result.get("element")
+					: waitForElement(driver, step.getByLocator(), ExpectedConditionsEnums.CLICKABLE, maxTimeOut);
+			try {
+				element.click();
+			} catch (ElementClickInterceptedException enie) {
+				executeJs(driver, element, "arguments[0].click()");
+			}
+			if (step.getAction() == ActionScript.Action.INPUT) {
+				element.clear();
+				element.sendKeys(step.getValue());
+			}
+			index++;
+		}
+
+		if (isCaptureScreenShot) {
+			captureScreenShot(driver, screenShotName);
+		}
 	}
 
 	/**
-	 * Gets the Selected list item.
+	 * Fills the form fields with the values.
+	 *
+	 * @param driver      the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param fieldValues the field locators and the values to be set (use
+	 *                    {@link java.util.LinkedHashMap LinkedHashMap} to keep the
+	 *                    order in which the fields are filled)
+	 * @return the status of each field, see
+	 * {@link #fillForm(WebDriver, Map, boolean, String, int)}
+	 * @throws Exception the exception
+	 */
+	public Map<By, Boolean> fillForm(WebDriver driver, Map<By, Object> fieldValues) throws Exception {
+		return fillForm(driver, fieldValues, false, "", CommonVariables.MED_TIMEOUT);
+	}
+
+	/**
+	 * Fills the form fields with the values.<br>
+	 * <br>
+	 * All the fields are resolved in a single batched wait for the presence (see
+	 * {@link #waitForElements(WebDriver, Map, int)}) and the values are set in a
+	 * single script, firing the input and change events for each field. Value is
+	 * set based on the field type
+	 * <ul>
+	 * <li>select - option with the visible text as the value is selected</li>
+	 * <li>checkbox/radio - checked/unchecked based on the boolean value (a
+	 * checked radio can't be unchecked, it is reported as failed)</li>
+	 * <li>input/textarea - value is replaced</li>
+	 * <li>file input/content editable - value is typed using send keys</li>
+	 * </ul>
+	 * <font color="blue"><b>Note:</b> Failure of a field (eg: disabled or
+	 * missing field, option not available) does not stop the other fields from being filled, it
+	 * is logged and reported in the returned status. Fields of the
+	 * {@link ByFrame} locators are filled frame by frame, in the order the frame
+	 * appears first in the fields.</font>
 	 *
 	 * @param driver              the {@link org.openqa.selenium.WebDriver
 	 *                            WebDriver}
-	 * @param element             the {@link org.openqa.selenium.WebElement element}
-	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param fieldValues         the field locators and the values to be set (use
+	 *                            {@link java.util.LinkedHashMap LinkedHashMap} to
+	 *                            keep the order in which the fields are filled)
+	 * @param isCaptureScreenShot toggle to capture screenshot after filling the
+	 *                            form
 	 * @param screenShotName      the screenshot name <br>
 	 *                            Date time Stamp will be <i>prepended</i> to the
 	 *                            screenshot name by default.<br>
 	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
 	 *                            setter to set the path where you want to store the
 	 *                            screenshots.
-	 * @return selected element
+	 * @param maxTimeOut          the maximum time to wait for the fields
+	 * @return the status of each field (in the same order as the input), true if
+	 * the value is set
 	 * @throws Exception the exception
 	 */
-	public WebElement getSelectedListItem(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
-										  String screenShotName) throws Exception {
-		this.logAccess.getLogger().info("Element :- " + element);
-		// get the element
-		WebElement tempElement = getElement(driver, element);
-
-		// select item by index
-		Select listElement = new Select(tempElement);
-		WebElement selectedItem = listElement.getFirstSelectedOption();
+	public Map<By, Boolean> fillForm(WebDriver driver, Map<By, Object> fieldValues, boolean isCaptureScreenShot,
+									 String screenShotName, int maxTimeOut) throws Exception {
+		this.logAccess.getLogger().info("Filling " + fieldValues.size() + " fields :- " + fieldValues.keySet());
+
+		// fields are filled in a single script per frame
+		Map<List<By>, Map<By, Object>> frameFieldValues = new LinkedHashMap<>();
+		fieldValues.forEach((byLocator, value) -> frameFieldValues.computeIfAbsent(
+				(byLocator instanceof ByFrame) ? ((ByFrame) byLocator).getFramePath() : Collections.emptyList(),
+				framePath -> new LinkedHashMap<>()).put(byLocator, value));
+		Map<By, Boolean> filledStatus = new HashMap<>();
+		for (Map<By, Object> frameValues : frameFieldValues.values()) {
+			filledStatus.putAll(fillFrameFields(driver, frameValues, maxTimeOut));
+		}
 
-		// highlight element
-		String originalStyle = highlightElement(driver, tempElement);
+		Map<By, Boolean> fieldStatus = new LinkedHashMap<>();
+		fieldValues.keySet().forEach(byLocator -> fieldStatus.put(byLocator, filledStatus.get(byLocator)));
 
-		// capture
-		if (isCaptureScreenshot) {
+		if (isCaptureScreenShot) {
 			captureScreenShot(driver, screenShotName);
 		}
-
-		// un-highlight
-		unHighlightElement(driver, tempElement, originalStyle);
-		return selectedItem;
+		return fieldStatus;
 	}
 
 	/**
-	 * Gets all the Selected list items.
+	 * Fills the fields of a frame (or the page) in a single script, see
+	 * {@link #fillForm(WebDriver, Map, boolean, String, int)}.
 	 *
-	 * @param driver              the {@link org.openqa.selenium.WebDriver
-	 *                            WebDriver}
-	 * @param element             the {@link org.openqa.selenium.WebElement element}
-	 * @param isCaptureScreenshot the is capture screenshot
-	 * @param screenShotName      the screenshot name <br>
-	 *                            Date time Stamp will be <i>prepended</i> to the
-	 *                            screenshot name by default.<br>
-	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
-	 *                            setter to set the path where you want to store the
-	 *                            screenshots.
-	 * @return WebElement List of selected list items
+	 * @param driver      the driver
+	 * @param fieldValues the field locators (all of the same frame) and the values
+	 * @param maxTimeOut  the maximum time to wait for the fields
+	 * @return the status of each field, true if the value is set
 	 * @throws Exception the exception
 	 */
-	public List<WebElement> getSelectedListItems(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
-												 String screenShotName) throws Exception {
-		this.logAccess.getLogger().info("Element :- " + element);
-		// get the element
-		WebElement tempElement = getElement(driver, element);
-
-		// select item by index
-		Select listElement = new Select(tempElement);
-		List<WebElement> selectedItems = listElement.getAllSelectedOptions();
+	private Map<By, Boolean> fillFrameFields(WebDriver driver, Map<By, Object> fieldValues, int maxTimeOut)
+			throws Exception {
+		// presence only, hidden inputs (file inputs, custom styled checkbox/radio) are filled as well
+		Map<By, ExpectedConditionsEnums> locatorConditions = new LinkedHashMap<>();
+		fieldValues.keySet().forEach(byLocator -> locatorConditions.put(byLocator, ExpectedConditionsEnums.PRESENCE));
+		Map<By, WebElement> fields;
+		try {
+			fields = waitForElements(driver, locatorConditions, maxTimeOut);
+		} catch (WebDriverException | IllegalArgumentException exception) {
+			// fill the fields which are present, the missing ones (or of the missing frame) are reported in the status
+			this.logAccess.getLogger().warn(exception.getMessage());
+			fields = new LinkedHashMap<>();
+			for (By byLocator : fieldValues.keySet()) {
+				try {
+					// switches to the frame of the field the same way as the wait
+					fields.put(byLocator, probeElement(driver, byLocator, ExpectedConditionsEnums.PRESENCE));
+				} catch (WebDriverException wde) {
+					// eg: frame of the field is not available
+					this.logAccess.getLogger().warn("Unable to locate the field " + byLocator + " :- " + wde.getMessage());
+					fields.put(byLocator, null);
+				}
+			}
+		}
 
-		// highlight element
-		String originalStyle = highlightElement(driver, tempElement);
+		List<WebElement> elements = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		for (Map.Entry<By, Object> fieldValue : fieldValues.entrySet()) {
+			elements.add(fields.get(fieldValue.getKey()));
+			values.add(fieldValue.getValue() instanceof Boolean ? fieldValue.getValue()
+					: String.valueOf(fieldValue.getValue()));
+		}
 
-		// capture
-		if (isCaptureScreenshot) {
-			captureScreenShot(driver, screenShotName);
+		String javaScript = "var elements = arguments[0], values = arguments[1], status = [];"
+				+ "function fire(ele, name) { ele.dispatchEvent(new Event(name, {bubbles: true})); }"
+				+ "function fill(ele, value) {"
+				+ " if (!ele) { return 'field is not present'; }"
+				+ " var tag = ele.tagName.toLowerCase(), type = (ele.type || '').toLowerCase();"
+				+ " if (ele.disabled || ele.readOnly) { return 'field is disabled'; }"
+				+ " if (tag === 'select') {"
+				+ "  var option = Array.prototype.find.call(ele.options, function(opt) {"
+				+ "   return opt.text.replace(/\\s+/g, ' ').trim() === String(value).trim(); });"
+				+ "  if (!option) { return 'option \\'' + value + '\\' is not available'; }"
+				+ "  option.selected = true; fire(ele, 'input'); fire(ele, 'change'); return 'OK';"
+				+ " }"
+				+ " if (type === 'checkbox' || type === 'radio') {"
+				// click fires the input/change events the same way as the user action
+				+ "  var checked = (value === true || value === 'true');"
+				+ "  if (type === 'radio' && ele.checked && !checked) {"
+				+ "   return 'radio can not be unchecked, select the other option of the group'; }"
+				+ "  if (ele.checked !== checked) { ele.click(); }"
+				+ "  return 'OK';"
+				+ " }"
+				+ " if (ele.isContentEditable || type === 'file' || (tag !== 'input' && tag !== 'textarea')) { return 'NATIVE'; }"
+				// native setter is used so that the frameworks tracking the value (eg: React) get the change
+				+ " var proto = tag === 'textarea' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+				+ " ele.focus(); Object.getOwnPropertyDescriptor(proto, 'value').set.call(ele, value);"
+				+ " fire(ele, 'input'); fire(ele, 'change'); return 'OK';"
+				+ "}"
+				+ "for (var index = 0; index < elements.length; index++) {"
+				+ " try { status.push(fill(elements[index], values[index])); } catch (err) { status.push(String(err)); }"
+				+ "}"
+				+ "return status;";
+		@SuppressWarnings("unchecked")
+		List<String> status = (List<String>) ((JavascriptExecutor) driver).executeScript(javaScript, elements, values);
+
+		Map<By, Boolean> fieldStatus = new LinkedHashMap<>();
+		int index = 0;
+		for (By byLocator : fieldValues.keySet()) {
+			String fieldResult = status.get(index);
+			if ("NATIVE".equals(fieldResult)) {
+				// type the value using the native events
+				try {
+					try {
+						elements.get(index).clear();
+					} catch (InvalidElementStateException iese) {
+						// file inputs and some content editable elements can't be cleared
+					}
+					elements.get(index).sendKeys(String.valueOf(values.get(index)));
+					fieldResult = "OK";
+				} catch (WebDriverException wde) {
+					fieldResult = wde.getMessage();
+				}
+			}
+			if (!"OK".equals(fieldResult)) {
+				this.logAccess.getLogger().warn("Unable to fill the field " + byLocator + " :- " + fieldResult);
+			}
+			fieldStatus.put(byLocator, "OK".equals(fieldResult));
+			index++;
+		}
+
+		return fieldStatus;
+	}
+
+	/**
+	 * Gets number of options(list items) in the list
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param element             the {@link org.openqa.selenium.WebElement element}
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return number of options(list items) in the list
+	 * @throws Exception the exception
+	 */
+	public int getNumberOfListItems(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
+									String screenShotName) throws Exception {
+		// get the element
+		WebElement tempElement = getElement(driver, element);
+
+		// get the number of options (without materializing each option)
+		return ((Number) executeListJs(driver, tempElement, "return arguments[0].options.length;")).intValue();
+	}
+
+	/**
+	 * Gets number of options(list items) in the list
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param byLocator           the by locator
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return number of options(list items) in the list
+	 * @throws Exception the exception
+	 */
+	public int getNumberOfListItems(WebDriver driver, By byLocator, boolean isCaptureScreenshot, String screenShotName)
+			throws Exception {
+		// get the element
+		WebElement tempElement = getElement(driver, byLocator);
+
+		return getNumberOfListItems(driver, tempElement, isCaptureScreenshot, screenShotName);
+	}
+
+	/**
+	 * Gets the Selected list item.
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param element             the {@link org.openqa.selenium.WebElement element}
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return selected element
+	 * @throws Exception the exception
+	 */
+	public WebElement getSelectedListItem(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
+										  String screenShotName) throws Exception {
+		this.logAccess.getLogger().info("Element :- " + element);
+		// get the element
+		WebElement tempElement = getElement(driver, element);
+
+		// get the first selected option in a single call
+		WebElement selectedItem = (WebElement) executeListJs(driver, tempElement,
+				"return arguments[0].selectedOptions[0] || null;");
+		if (selectedItem == null) {
+			throw new NoSuchElementException("No options are selected");
 		}
 
-		// un-highlight
-		unHighlightElement(driver, tempElement, originalStyle);
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
+		return selectedItem;
+	}
+
+	/**
+	 * Gets all the Selected list items.
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param element             the {@link org.openqa.selenium.WebElement element}
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return WebElement List of selected list items
+	 * @throws Exception the exception
+	 */
+	public List<WebElement> getSelectedListItems(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
+												 String screenShotName) throws Exception {
+		this.logAccess.getLogger().info("Element :- " + element);
+		// get the element
+		WebElement tempElement = getElement(driver, element);
+
+		// get all the selected options in a single call
+		@SuppressWarnings("unchecked")
+		List<WebElement> selectedItems = (List<WebElement>) executeListJs(driver, tempElement,
+				"return Array.prototype.slice.call(arguments[0].selectedOptions);");
+
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
 		return selectedItems;
 	}
 
@@ -1604,6 +2842,177 @@ public class CommonFunctions {
 		return getSelectedListItems(driver, tempElement, isCaptureScreenshot, screenShotName);
 	}
 
+	/**
+	 * Gets the visible text of all the options(list items) in the list, options are read
+	 * in a single call.
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param element             the {@link org.openqa.selenium.WebElement element}
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return visible text of the options in the list order
+	 * @throws Exception the exception
+	 */
+	public List<String> getListItemTexts(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
+										 String screenShotName) throws Exception {
+		this.logAccess.getLogger().info("Element :- " + element);
+		// get the element
+		WebElement tempElement = getElement(driver, element);
+		List<Object> listItems = readListItems(driver, tempElement, "text");
+
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
+		List<String> texts = new ArrayList<>();
+		listItems.forEach(listItem -> texts.add(String.valueOf(listItem)));
+		return texts;
+	}
+
+	/**
+	 * Gets the visible text of all the options(list items) in the list, options are read
+	 * in a single call.
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param byLocator           the by locator
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return visible text of the options in the list order
+	 * @throws Exception the exception
+	 */
+	public List<String> getListItemTexts(WebDriver driver, By byLocator, boolean isCaptureScreenshot,
+										 String screenShotName) throws Exception {
+		this.logAccess.getLogger().info("By Locator :- " + byLocator);
+		// get the element
+		WebElement tempElement = getElement(driver, byLocator);
+
+		return getListItemTexts(driver, tempElement, isCaptureScreenshot, screenShotName);
+	}
+
+	/**
+	 * Gets the visible text of all the selected options(list items), options are read in
+	 * a single call.
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param element             the {@link org.openqa.selenium.WebElement element}
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return visible text of the selected options in the list order
+	 * @throws Exception the exception
+	 */
+	public List<String> getSelectedListItemTexts(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
+												 String screenShotName) throws Exception {
+		this.logAccess.getLogger().info("Element :- " + element);
+		// get the element
+		WebElement tempElement = getElement(driver, element);
+		List<Object> listItems = readListItems(driver, tempElement, "selectedText");
+
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
+		List<String> texts = new ArrayList<>();
+		listItems.forEach(listItem -> texts.add(String.valueOf(listItem)));
+		return texts;
+	}
+
+	/**
+	 * Gets the visible text of all the selected options(list items), options are read in
+	 * a single call.
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param byLocator           the by locator
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return visible text of the selected options in the list order
+	 * @throws Exception the exception
+	 */
+	public List<String> getSelectedListItemTexts(WebDriver driver, By byLocator, boolean isCaptureScreenshot,
+												 String screenShotName) throws Exception {
+		this.logAccess.getLogger().info("By Locator :- " + byLocator);
+		// get the element
+		WebElement tempElement = getElement(driver, byLocator);
+
+		return getSelectedListItemTexts(driver, tempElement, isCaptureScreenshot, screenShotName);
+	}
+
+	/**
+	 * Gets the indexes of all the selected options(list items), options are read in a
+	 * single call.
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param element             the {@link org.openqa.selenium.WebElement element}
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return indexes of the selected options in the list order
+	 * @throws Exception the exception
+	 */
+	public List<Integer> getSelectedListItemIndexes(WebDriver driver, WebElement element, boolean isCaptureScreenshot,
+													String screenShotName) throws Exception {
+		this.logAccess.getLogger().info("Element :- " + element);
+		// get the element
+		WebElement tempElement = getElement(driver, element);
+		List<Object> listItems = readListItems(driver, tempElement, "selectedIndex");
+
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
+		List<Integer> indexes = new ArrayList<>();
+		listItems.forEach(listItem -> indexes.add(((Number) listItem).intValue()));
+		return indexes;
+	}
+
+	/**
+	 * Gets the indexes of all the selected options(list items), options are read in a
+	 * single call.
+	 *
+	 * @param driver              the {@link org.openqa.selenium.WebDriver
+	 *                            WebDriver}
+	 * @param byLocator           the by locator
+	 * @param isCaptureScreenshot the is capture screenshot
+	 * @param screenShotName      the screenshot name <br>
+	 *                            Date time Stamp will be <i>prepended</i> to the
+	 *                            screenshot name by default.<br>
+	 *                            Note: Use {@link #screenShotsPath screenShotsPath}
+	 *                            setter to set the path where you want to store the
+	 *                            screenshots.
+	 * @return indexes of the selected options in the list order
+	 * @throws Exception the exception
+	 */
+	public List<Integer> getSelectedListItemIndexes(WebDriver driver, By byLocator, boolean isCaptureScreenshot,
+													String screenShotName) throws Exception {
+		this.logAccess.getLogger().info("By Locator :- " + byLocator);
+		// get the element
+		WebElement tempElement = getElement(driver, byLocator);
+
+		return getSelectedListItemIndexes(driver, tempElement, isCaptureScreenshot, screenShotName);
+	}
+
 	/**
 	 * Select item by index.
 	 *
@@ -1632,16 +3041,8 @@ public class CommonFunctions {
 		Select listElement = new Select(tempElement);
 		listElement.selectByIndex(index);
 
-		// highlight element
-		String originalStyle = highlightElement(driver, tempElement);
-
-		// capture
-		if (isCaptureScreenshot) {
-			captureScreenShot(driver, screenShotName);
-		}
-
-		// un-highlight
-		unHighlightElement(driver, tempElement, originalStyle);
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
 	}
 
 	/**
@@ -1693,16 +3094,8 @@ public class CommonFunctions {
 		Select dropDown = new Select(tempElement);
 		dropDown.selectByValue(value);
 
-		// highlight element
-		String originalStyle = highlightElement(driver, tempElement);
-
-		// capture (private capture screenshot)
-		if (isCaptureScreenshot) {
-			captureScreenShot(driver, screenShotName);
-		}
-
-		// un-highlight
-		unHighlightElement(driver, tempElement, originalStyle);
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
 	}
 
 	/**
@@ -1754,16 +3147,8 @@ public class CommonFunctions {
 		Select dropDown = new Select(tempElement);
 		dropDown.selectByVisibleText(visibleText);
 
-		// highlight element
-		String originalStyle = highlightElement(driver, tempElement);
-
-		// capture (private capture screenshot)
-		if (isCaptureScreenshot) {
-			captureScreenShot(driver, screenShotName);
-		}
-
-		// un-highlight
-		unHighlightElement(driver, tempElement, originalStyle);
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
 	}
 
 	/**
@@ -1789,6 +3174,7 @@ public class CommonFunctions {
 
 	/**
 	 * Select list item based on the partial visible text.
+	 * The first option which is not disabled is selected.
 	 *
 	 * @param driver              the {@link org.openqa.selenium.WebDriver
 	 *                            WebDriver}
@@ -1810,21 +3196,33 @@ public class CommonFunctions {
 		this.logAccess.getLogger().info("Element :- " + element);
 		// get the element
 		WebElement tempElement = getElement(driver, element, maxTimeOut);
-		WebElement option = tempElement
-				.findElement(By.xpath("./option[contains(text(),'" + partialVisibleText + "')]"));
-		option.click();
+		// find and select the option in a single call, text is passed as argument so
+		// that the quotes in the text does not break the lookup
+		String javaScript = "var list = arguments[0], partialText = arguments[1];"
+				+ "var options = Array.prototype.filter.call(list.options, function(opt) {"
+				+ " return opt.text.indexOf(partialText) > -1; });"
+				// disabled options (or options of the disabled group) can't be selected by the user
+				+ "var option = options.find(function(opt) {"
+				+ " return !opt.disabled && !(opt.parentNode.tagName === 'OPTGROUP' && opt.parentNode.disabled); });"
+				+ "if (!option) { return {index: -1, isDisabled: options.length > 0}; }"
+				+ "option.selected = true;"
+				+ "list.dispatchEvent(new Event('input', {bubbles: true}));"
+				+ "list.dispatchEvent(new Event('change', {bubbles: true}));"
+				+ "return {index: option.index};";
+		@SuppressWarnings("unchecked")
+		Map<String, Object> selection = (Map<String, Object>) executeListJs(driver, tempElement, javaScript,
+				partialVisibleText);
+		// same exceptions as the Select
+		if (Boolean.TRUE.equals(selection.get("isDisabled"))) {
+			throw new UnsupportedOperationException("You may not select a disabled option");
+		}
+		if (((Number) selection.get("index")).intValue() < 0) {
+			throw new NoSuchElementException("Cannot locate option with partial text: " + partialVisibleText);
+		}
 
-		// highlight element
-		String originalStyle = highlightElement(driver, tempElement);
-
-		// capture (private capture screenshot)
-		if (isCaptureScreenshot) {
-			captureScreenShot(driver, screenShotName);
-		}
-
-		// un-highlight
-		unHighlightElement(driver, tempElement, originalStyle);
-	}
+		// highlight element and capture (private capture screenshot)
+		captureElementEvidence(driver, tempElement, isCaptureScreenshot, screenShotName);
+	}
 
 	/**
 	 * Select list item based on the partial visible text.
@@ -2044,20 +3442,11 @@ public class CommonFunctions {
 	public String getText(WebDriver driver, WebElement element, boolean isCaptureScreenShot, String screenShotName, int maxTimeOut)
 			throws Exception {
 		this.logAccess.getLogger().info("Getting text form element :- " + element);
-		String elementText;
-		// get the element
-		WebElement tempElement = getElement(driver, element, maxTimeOut);
-		// highlight the element
-		String originalStyle = highlightElement(driver, tempElement);
-		// get the element text
-		elementText = tempElement.getText();
-		// capture screenshot
-		if (isCaptureScreenShot) {
-			captureScreenShot(driver, screenShotName);
-		}
-		// unhighlight the element
-		unHighlightElement(driver, tempElement, originalStyle);
-		return elementText;
+		return this.retryPolicy.execute(() -> {
+			// get the element
+			WebElement tempElement = getElement(driver, element, maxTimeOut);
+			return getElementText(driver, tempElement, isCaptureScreenShot, screenShotName);
+		}, exception -> prepareRetry(driver, null, element, exception));
 	}
 
 	/**
@@ -2103,22 +3492,112 @@ public class CommonFunctions {
 	public String getText(WebDriver driver, By byLocator, boolean isCaptureScreenShot, String screenShotName, int maxTimeOut)
 			throws Exception {
 		this.logAccess.getLogger().info("Getting text form element :- " + byLocator);
-		String elementText;
-		// get the element
-		WebElement tempElement = getElement(driver, byLocator, maxTimeOut);
-		// highlight the element
-		String originalStyle = highlightElement(driver, tempElement);
+		return executeOnLocator(driver, byLocator, () -> {
+			// get the element
+			WebElement tempElement = getElement(driver, byLocator, maxTimeOut);
+			return getElementText(driver, tempElement, isCaptureScreenShot, screenShotName);
+		});
+	}
+
+	/**
+	 * Gets the element text and captures the evidence.
+	 *
+	 * @param driver              the driver
+	 * @param element             the resolved element
+	 * @param isCaptureScreenShot the is capture screen shot
+	 * @param screenShotName      the screen shot name
+	 * @return the visible text of the element
+	 * @throws Exception the exception
+	 */
+	private String getElementText(WebDriver driver, WebElement element, boolean isCaptureScreenShot,
+								  String screenShotName) throws Exception {
 		// get the element text
-		elementText = tempElement.getText();
-		// capture screenshot
-		if (isCaptureScreenShot) {
-			captureScreenShot(driver, screenShotName);
-		}
-		// unhighlight the element
-		unHighlightElement(driver, tempElement, originalStyle);
+		String elementText = element.getText();
+		// highlight the element and capture screenshot
+		captureElementEvidence(driver, element, isCaptureScreenShot, screenShotName);
 		return elementText;
 	}
 
+	/**
+	 * Gets the visible text of the first element of each locator, all the texts
+	 * are read with a single script.<br>
+	 * <font color="blue"><b>Note:</b> Elements are not waited, text is null for
+	 * the locators which don't have any element and empty for the elements which
+	 * are not rendered, same as {@link WebElement#getText()}. Text is the
+	 * rendered text (innerText) of the element, trimmed and with the
+	 * non-breaking spaces as spaces like {@link WebElement#getText()}, however
+	 * the white space with in the text (eg: of the pre-formatted text) might
+	 * differ. {@link ByFrame} and the other locators which can't be expressed in
+	 * JavaScript are read with {@link WebElement#getText()}.</font>
+	 *
+	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocators the by locators
+	 * @return the texts in the same order as the locators
+	 */
+	public List<String> getTexts(WebDriver driver, List<By> byLocators) {
+		this.logAccess.getLogger().info("Getting texts from elements :- " + byLocators);
+		List<Map<String, Object>> queries = new ArrayList<>();
+		byLocators.forEach(byLocator -> queries.add(getLocatorQuery(byLocator)));
+		// locators read with in the script are of the page, not of the frame a ByFrame locator left the driver in
+		byLocators.stream().filter(byLocator -> getLocatorQuery(byLocator) != null).findFirst()
+				.ifPresent(byLocator -> prepareLocatorContext(driver, byLocator));
+
+		@SuppressWarnings("unchecked")
+		List<String> texts = (List<String>) ((JavascriptExecutor) driver).executeScript(JS_LOCATOR_FUNCTIONS
+				+ "return arguments[0].map(function(query) {"
+				+ " var ele = query ? fwLocate(query, document) : null;"
+				// innerText of the element which is not rendered is its textContent, so it is skipped
+				+ " if (!ele) { return null; }"
+				+ " return ele.getClientRects().length ? (ele.innerText || '').replace(/\u00a0/g, ' ').trim() : ''; });",
+				queries);
+
+		for (int index = 0; index < byLocators.size(); index++) {
+			// locators which can't be expressed in JavaScript are read natively
+			if (queries.get(index) == null) {
+				WebElement element = probeElement(driver, byLocators.get(index), ExpectedConditionsEnums.PRESENCE);
+				texts.set(index, (element == null) ? null : element.getText());
+			}
+		}
+		return texts;
+	}
+
+	/**
+	 * Gets the attribute (or property, same as
+	 * {@link WebElement#getAttribute(String)}) value of all the elements of the
+	 * locator, all the values are read with a single script.<br>
+	 * <font color="blue"><b>Note:</b> Elements are not waited, empty list is
+	 * returned when there are no elements and the value is null for the elements
+	 * which don't have the attribute or the boolean property (eg: disabled,
+	 * checked) is false.</font>
+	 *
+	 * @param driver        the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocator     the by locator
+	 * @param attributeName the attribute name
+	 * @return the attribute values in the document order of the elements
+	 */
+	public List<String> getAttributes(WebDriver driver, By byLocator, String attributeName) {
+		this.logAccess.getLogger().info("Getting attribute '" + attributeName + "' from elements :- " + byLocator);
+		prepareLocatorContext(driver, byLocator);
+		Map<String, Object> query = getLocatorQuery(byLocator);
+		if (query == null) {
+			// locators which can't be expressed in JavaScript are read natively
+			List<String> values = new ArrayList<>();
+			driver.findElements(byLocator).forEach(element -> values.add(element.getAttribute(attributeName)));
+			return values;
+		}
+
+		@SuppressWarnings("unchecked")
+		List<String> values = (List<String>) ((JavascriptExecutor) driver).executeScript(JS_LOCATOR_FUNCTIONS
+				+ "var name = arguments[1];"
+				+ "return fwLocateAll(arguments[0], document).map(function(ele) {"
+				+ " var value = ele[name];"
+				+ " if (value === undefined || value === null || typeof value === 'object' || typeof value === 'function') {"
+				+ "  value = ele.getAttribute(name); }"
+				+ " return (value === null || value === undefined || value === false) ? null : String(value); });",
+				query, attributeName);
+		return values;
+	}
+
 	/**
 	 * Get the visible (i.e. not hidden by CSS) text of this element, including
 	 * sub-elements.
@@ -2166,16 +3645,10 @@ public class CommonFunctions {
 		String attributeValue;
 		// get the element
 		WebElement tempElement = getElement(driver, element);
-		// highlight the element
-		String originalStyle = highlightElement(driver, tempElement);
 		// get the element text
 		attributeValue = tempElement.getAttribute(attributeName);
-		// capture screenshot
-		if (isCaptureScreenShot) {
-			captureScreenShot(driver, screenShotName);
-		}
-		// un-highlight the element
-		unHighlightElement(driver, tempElement, originalStyle);
+		// highlight the element and capture screenshot
+		captureElementEvidence(driver, tempElement, isCaptureScreenShot, screenShotName);
 		return attributeValue;
 	}
 
@@ -2285,8 +3758,8 @@ public class CommonFunctions {
 			// highlight
 			String originalStyle = highlightElement(driver, element);
 
-			// capture screenshot
-			tempScreenshotName = captureScreenShot(driver, screenshotName);
+			// capture screenshot, not deduplicated as only the highlight might differ
+			tempScreenshotName = captureScreenShotAsync(driver, screenshotName, false).getPath();
 			// un-highlight
 			setOriginalStyle(driver, element, originalStyle);
 		//}
@@ -2317,8 +3790,8 @@ public class CommonFunctions {
 			WebElement element = waitForElement(driver, byLocator, ExpectedConditionsEnums.VISIBLE);
 			// highlight
 			String originalStyle = highlightElement(driver, element);
-			// capture screenshot
-			tempScreenshotName = captureScreenShot(driver, screenshotName);
+			// capture screenshot, not deduplicated as only the highlight might differ
+			tempScreenshotName = captureScreenShotAsync(driver, screenshotName, false).getPath();
 			// un-highlight
 			setOriginalStyle(driver, element, originalStyle);
 		//}
@@ -2339,18 +3812,70 @@ public class CommonFunctions {
 	 */
 	// screenshots
 	public String captureScreenShot(WebDriver driver, String screenShotName) throws Exception {
+		return captureScreenShotAsync(driver, screenShotName).getPath();
+	}
 
-		String tempScreenshotName = "";
-		//if (!CommonVariables.IS_RUNNING_ON_SBOX) {
-			this.logAccess.getLogger().debug("Capturing screenshot");
-			tempScreenshotName = this.screenShotsPath + File.separatorChar + getScreenShotTime() + "_"
-					+ screenShotName.replaceAll("[^-A-Za-z0-9]", "_").replace("__", "_") + ".png";
-
-			File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-			FileUtils.copyFile(screenshot, new File(tempScreenshotName));
-		//}
-		return tempScreenshotName;
+	/**
+	 * Capture screen shot, the screenshot is written in the background when the
+	 * async screenshots are enabled (see {@link #setAsyncScreenShots(boolean)}).
+	 *
+	 * @param driver         the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param screenShotName the screenshot name <br>
+	 *                       Date time Stamp will be <i>prepended</i> to the
+	 *                       screenshot name by default.
+	 * @return the screenshot handle, use
+	 *         {@link ScreenShotWriter.ScreenShotHandle#await() await} to wait for
+	 *         the screenshot file
+	 * @throws Exception the exception
+	 */
+	public ScreenShotWriter.ScreenShotHandle captureScreenShotAsync(WebDriver driver, String screenShotName)
+			throws Exception {
+		return captureScreenShotAsync(driver, screenShotName, true);
+	}
 
+	/**
+	 * Capture screen shot, the screenshot is written in the background when the
+	 * async screenshots are enabled (see {@link #setAsyncScreenShots(boolean)}).
+	 *
+	 * @param driver         the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param screenShotName the screenshot name <br>
+	 *                       Date time Stamp will be <i>prepended</i> to the
+	 *                       screenshot name by default.
+	 * @param isDeduplicate  false to always write the screenshot (eg: failure
+	 *                       and the highlighted element screenshots), see
+	 *                       {@link #setScreenShotDeduplication(boolean)}
+	 * @return the screenshot handle, use
+	 *         {@link ScreenShotWriter.ScreenShotHandle#await() await} to wait for
+	 *         the screenshot file
+	 * @throws Exception the exception
+	 */
+	public ScreenShotWriter.ScreenShotHandle captureScreenShotAsync(WebDriver driver, String screenShotName,
+			boolean isDeduplicate) throws Exception {
+		this.logAccess.getLogger().debug("Capturing screenshot");
+		byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+		ScreenShotEncoder encoder = this.screenShotEncoder;
+		String outputPNGFileName = screenShotName.replaceAll("[^-A-Za-z0-9]", "_").replace("__", "_") + ".png";
+		if (!this.screenShotDeduplication || !isDeduplicate) {
+			return saveScreenShot(outputPNGFileName,
+					file -> FileUtils.writeByteArrayToFile(file, encoder.encode(screenshot)));
+		}
+		PerceptualHash screenShotHash = PerceptualHash.of(screenshot);
+		// screenshot of another page is never reused
+		Object pageToken = getPageToken(driver);
+		synchronized (this) {
+			if (this.lastScreenShotHash != null && pageToken != null && pageToken.equals(this.lastScreenShotPageToken)
+					&& screenShotHash.distance(this.lastScreenShotHash) <= CommonVariables.SCREENSHOT_DEDUP_THRESHOLD) {
+				this.logAccess.getLogger().debug("Screenshot is same as the previous one, reusing :- "
+						+ this.lastScreenShotHandle.getPath());
+				return this.lastScreenShotHandle;
+			}
+			// compared with the last written screenshot, so the small changes do not add up unnoticed
+			this.lastScreenShotHash = screenShotHash;
+			this.lastScreenShotPageToken = pageToken;
+			this.lastScreenShotHandle = saveScreenShot(outputPNGFileName,
+					file -> FileUtils.writeByteArrayToFile(file, encoder.encode(screenshot)));
+			return this.lastScreenShotHandle;
+		}
 	}
 
 	/**
@@ -2378,13 +3903,15 @@ public class CommonFunctions {
 		if (browserName.equalsIgnoreCase(BrowserEnums.PhantomJs.toString())) {
 			return captureScreenShot(driver, screenShotName);
 		} else {
+			byte[] fullPageImage = this.nativeFullPageScreenShot ? captureNativeFullPage(driver) : null;
+			if (fullPageImage != null) {
+				return writeScreenShot(fullPageImage,
+						screenShotName.replaceAll("[^-A-Za-z0-9]", "_").replace("__", "_") + ".png");
+			}
 
-			String tempScreenShotsFolderName = screenShotsPath + File.separatorChar + "TempFolder" + File.separatorChar
-					+ getScreenShotTime() + "_" + screenShotName;
-			folderFileUtil.createFolder(tempScreenShotsFolderName);
-			boolean capturedChunks = capturePageChunks(driver, tempScreenShotsFolderName);
-			if (capturedChunks) {
-				return mergeImagesToSingleImage(tempScreenShotsFolderName,
+			List<BufferedImage> pageChunks = capturePageChunks(driver);
+			if (pageChunks != null) {
+				return writeScreenShot(stitchImages(pageChunks),
 						screenShotName.replaceAll("[^-A-Za-z0-9]", "_").replace("__", "_") + ".png");
 			} else {
 				return captureScreenShot(driver, screenShotName);
@@ -2422,13 +3949,15 @@ public class CommonFunctions {
 			return captureScreenShot(driver, screenShotName);
 
 		} else {
-			String tempScreenShotsFolderName = screenShotsPath + File.separatorChar + "TempFolder" + File.separatorChar
-					+ getScreenShotTime() + "_" + screenShotName;
-			folderFileUtil.createFolder(tempScreenShotsFolderName);
-
-			boolean capturedPageChunks = capturePageChunks(driver, tempScreenShotsFolderName, headerElement, true);
-			if (capturedPageChunks) {
-				return mergeImagesToSingleImage(tempScreenShotsFolderName,
+			// fixed header is captured only once by the native capture
+			byte[] fullPageImage = this.nativeFullPageScreenShot ? captureNativeFullPage(driver) : null;
+			if (fullPageImage != null) {
+				return writeScreenShot(fullPageImage,
+						screenShotName.replaceAll("[^-A-Za-z0-9]", "_").replace("__", "_") + ".png");
+			}
+			List<BufferedImage> pageChunks = capturePageChunks(driver, headerElement, true);
+			if (pageChunks != null) {
+				return writeScreenShot(stitchImages(pageChunks),
 						screenShotName.replaceAll("[^-A-Za-z0-9]", "_").replace("__", "_") + ".png");
 			} else {
 				return captureScreenShot(driver, screenShotName);
@@ -2496,30 +4025,27 @@ public class CommonFunctions {
 			if (CommonVariables.BROWSER_SELECT.equalsIgnoreCase("chrome")) {
 				// navigate to Chrome downloads
 				driver.get("chrome://downloads");
-				long startTime = (new Date()).getTime();
-
-				while (!downloadStarted && (((new Date().getTime()) - startTime) / 1000) < maxTimeoutInSeconds) {
-					try {
-						Object downloadedItemsObject = js.executeScript(
-								"return document.querySelector('downloads-manager').shadowRoot.querySelectorAll('#downloadsList downloads-item').length");
-						downloadStarted = (Integer.parseInt(downloadedItemsObject.toString()) > 0);
-					} catch (Exception ignoreException) {
-						// do nothing ignore the exception
-						// until the element is present
-					}
+				try {
+					webDriverWait(driver, maxTimeoutInSeconds).until(ExpectedConditions
+							.presenceOfElementLocated(ByShadow.path("downloads-manager", "#downloadsList downloads-item")));
+					downloadStarted = true;
+				} catch (TimeoutException ignoreException) {
+					// download is not started with in the timeout
 				}
 				if (downloadStarted) {
 					
-					webDriverWait(driver, maxTimeoutInSeconds).until(ExpectedConditions
-							.elementToBeClickable((WebElement) ((JavascriptExecutor) driver).executeScript(
-									"return document.querySelector('downloads-manager').shadowRoot.querySelector('#downloadsList downloads-item').shadowRoot.querySelector('div#content #file-link')")));
+					WebElement fileLink = webDriverWait(driver, maxTimeoutInSeconds).until(ExpectedConditions
+							.elementToBeClickable(ByShadow.path("downloads-manager", "#downloadsList downloads-item",
+									"div#content #file-link")));
 					// get the file name
-					fileName = (String) ((JavascriptExecutor) driver).executeScript(
-							"return document.querySelector('downloads-manager').shadowRoot.querySelector('#downloadsList downloads-item').shadowRoot.querySelector('div#content #file-link').text");
+					fileName = fileLink.getAttribute("text");
 					captureScreenShot(driver, "download_file");
-					Thread.sleep(1000);
-					js.executeScript(
-							"document.querySelector('downloads-manager').shadowRoot.querySelector('#downloadsList downloads-item').shadowRoot.querySelector('button#remove').click()");
+					long waitStartTime = System.currentTimeMillis();
+					WebElement removeButton = webDriverWait(driver, maxTimeoutInSeconds).until(ExpectedConditions
+							.elementToBeClickable(ByShadow.path("downloads-manager", "#downloadsList downloads-item",
+									"button#remove")));
+					recordSavedSleep(1000, waitStartTime);
+					js.executeScript("arguments[0].click()", removeButton);
 				}
 
 				// TODO Need to implement the logic to clear the downloaded file entry from
@@ -2591,6 +4117,30 @@ public class CommonFunctions {
 	}
 
 
+	/**
+	 * Switches the driver to the (nested) frame, frames are switched only when
+	 * the driver is not already in the frame and only the remaining frames are
+	 * walked when the driver is in one of the parent frames.<br>
+	 * <br>
+	 * <font color="blue"><b>Note:</b> Use {@link ByFrame#of(By, By...)} to
+	 * locate the elements with in the frame directly, eg:
+	 * <i>clickOnElement(driver, ByFrame.of(By.id("save"), By.id("editorFrame")),
+	 * false, false, "")</i>. The driver stays in the frame switched with this
+	 * method for the plain locators, unlike the frame switched by the
+	 * {@link ByFrame} locator.</font>
+	 *
+	 * @param driver    the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param framePath the locators of the frames, outermost first (none for the
+	 *                  default content)
+	 * @throws Exception the exception
+	 */
+	public void switchToFrame(WebDriver driver, By... framePath) throws Exception {
+		ByFrame.switchToFrame(driver, Arrays.asList(framePath));
+		// plain locators are used with in the frame switched explicitly
+		this.frameLocatorDriver = null;
+		this.logAccess.getLogger().debug("Switched to frame :- " + Arrays.toString(framePath));
+	}
+
 	/**
 	 * gets the element based on the by locator
 	 *
@@ -2714,152 +4264,820 @@ public class CommonFunctions {
 	}
 
 	/**
-	 * gets the element based on the locator
+	 * gets the element based on the locator
+	 *
+	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocator         the by locator
+	 * @param expectedCondition the expected condition
+	 * @return WebElement
+	 * @throws Exception the exception
+	 */
+	public WebElement getElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition,
+								 int maxTimeOut) throws Exception {
+		return waitForElement(driver, byLocator, expectedCondition, maxTimeOut);
+	}
+	
+	/**
+	 * gets the element based on the locator
+	 *
+	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocator         the by locator
+	 * @param expectedCondition the expected condition
+	 * @param isScrollElementToCenter is element need to be scrolled to center or not
+	 * @return WebElement
+	 * @throws Exception the exception
+	 */
+	public WebElement getElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition,
+								 int maxTimeOut, boolean isScrollElementToCenter) throws Exception {
+		return waitForElement(driver, byLocator, expectedCondition, maxTimeOut);
+	}
+
+	/**
+	 * gets the element based on the element expected condition
+	 *
+	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param element           the WebElement
+	 * @param expectedCondition the expected condition
+	 * @return WebElement
+	 * @throws Exception the exception
+	 */
+	public WebElement getElement(WebDriver driver, WebElement element, ExpectedConditionsEnums expectedCondition,
+								 int maxTimeOut) throws Exception {
+		return waitForElement(driver, element, expectedCondition, maxTimeOut);
+	}
+
+	/**
+	 * gets the element based on the element and max timeout
+	 *
+	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param element    the WebElement
+	 * @param maxTimeOut Maximum time to wait for the element
+	 * @return WebElement
+	 * @throws Exception the exception
+	 */
+	public WebElement getElement(WebDriver driver, WebElement element, int maxTimeOut) throws Exception {
+		return waitForElement(driver, element, ExpectedConditionsEnums.VISIBLE, maxTimeOut);
+	}
+
+	/**
+	 * Gets the elements.
+	 *
+	 * @param driver    the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocator the by locator
+	 * @return the list of elements,empty list will be return if there are no
+	 * matching elements
+	 */
+	public List<WebElement> getElements(WebDriver driver, By byLocator) {
+		return getElements(driver, byLocator, CommonVariables.MED_TIMEOUT);
+
+	}
+
+	/**
+	 * Gets the elements.
+	 *
+	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocator  the by locator
+	 * @param maxTimeOut Maximum time to wait for the element
+	 * @return the elements,empty list will be return if there are no matching
+	 * elements
+	 */
+	public List<WebElement> getElements(WebDriver driver, By byLocator, int maxTimeOut) {
+		List<WebElement> listElements = new ArrayList<WebElement>();
+		// check if the elements are present
+		try {
+			// get the elements if they are present
+			listElements = waitForElementsToVisible(driver, byLocator, maxTimeOut);
+		} catch (Exception e) {
+			// Do nothing when
+		}
+		return listElements;
+	}
+
+	/**
+	 * Gets the data of the HTML table, each row is returned as map of the column
+	 * name and the cell text.
+	 *
+	 * @param driver        the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param tableLocator  the by locator of the table
+	 * @param columnMapping the header text (or the column index when the table
+	 *                      does not have headers) and the name to be used for the
+	 *                      column in the returned rows, null to return all the
+	 *                      columns with the header text as the name
+	 * @return the table rows
+	 * @throws Exception the exception
+	 */
+	public List<Map<String, String>> getTableData(WebDriver driver, By tableLocator, Map<String, String> columnMapping)
+			throws Exception {
+		return getTableData(driver, tableLocator, columnMapping, "tr", "td", "th");
+	}
+
+	/**
+	 * Gets the data of the table/grid, each row is returned as map of the column
+	 * name and the cell text.<br>
+	 * <br>
+	 * Eg: for ARIA grids use <i>"[role=row]"</i>,
+	 * <i>"[role=gridcell],[role=cell]"</i> and <i>"[role=columnheader]"</i> as the
+	 * row, cell and header selectors.
+	 *
+	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param tableLocator      the by locator of the table/grid
+	 * @param columnMapping     the header text (or the column index when the
+	 *                          table does not have headers) and the name to be
+	 *                          used for the column in the returned rows, null to
+	 *                          return all the columns with the header text as the
+	 *                          name
+	 * @param rowCssSelector    the CSS selector of the rows with in the table,
+	 *                          rows without cells (eg: header row) are skipped
+	 * @param cellCssSelector   the CSS selector of the cells with in the row
+	 * @param headerCssSelector the CSS selector of the header cells with in the
+	 *                          table
+	 * @return the table rows
+	 * @throws Exception the exception
+	 */
+	public List<Map<String, String>> getTableData(WebDriver driver, By tableLocator, Map<String, String> columnMapping,
+												  String rowCssSelector, String cellCssSelector, String headerCssSelector) throws Exception {
+		List<Map<String, String>> tableData = new ArrayList<>();
+		readTableData(driver, tableLocator, columnMapping, rowCssSelector, cellCssSelector, headerCssSelector,
+				tableData::addAll);
+		return tableData;
+	}
+
+	/**
+	 * Reads the data of the table/grid page by page, each page (of
+	 * {@link CommonVariables#TABLE_PAGE_SIZE TABLE_PAGE_SIZE} rows) is read with a
+	 * single script and passed to the page consumer, so that the large tables are
+	 * not held in memory at once. The rows are queried once and the pages are
+	 * read from them by index.<br>
+	 * <br>
+	 * Cells are aligned to the headers by their position, including the spanned
+	 * cells (colspan/rowspan) and the header cells with in the rows (row
+	 * headers). When the table has several header rows, the column is named by
+	 * the lowest header row.
+	 *
+	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param tableLocator      the by locator of the table/grid
+	 * @param columnMapping     the header text (or the column index when the
+	 *                          table does not have headers) and the name to be
+	 *                          used for the column in the returned rows, null to
+	 *                          return all the columns with the header text as the
+	 *                          name
+	 * @param rowCssSelector    the CSS selector of the rows with in the table,
+	 *                          rows without cells (eg: header row) are skipped
+	 * @param cellCssSelector   the CSS selector of the cells with in the row
+	 * @param headerCssSelector the CSS selector of the header cells with in the
+	 *                          table
+	 * @param pageConsumer      the consumer of each page of rows
+	 * @return the total number of rows read
+	 * @throws Exception the exception
+	 */
+	public int readTableData(WebDriver driver, By tableLocator, Map<String, String> columnMapping,
+							 String rowCssSelector, String cellCssSelector, String headerCssSelector,
+							 Consumer<List<Map<String, String>>> pageConsumer) throws Exception {
+		this.logAccess.getLogger().info("Reading table data :- " + tableLocator);
+		WebElement table = getElement(driver, tableLocator, false);
+
+		// rows are queried once and kept on the table (per read), each page is read from them by index
+		// rows are read with the column positions so that only the mapped cells are returned
+		String javaScript = "var table = arguments[0], start = arguments[1], size = arguments[2], columns = arguments[3];"
+				+ "var rowSelector = arguments[4], cellSelector = arguments[5], headerSelector = arguments[6];"
+				+ "var reads = table.__fwTableReads || (table.__fwTableReads = {}), readId = arguments[7];"
+				+ "function text(ele) { return ele ? (ele.innerText || ele.textContent || '').trim() : null; }"
+				+ "function span(cell, property, attribute) {"
+				+ " return cell[property] || parseInt(cell.getAttribute(attribute), 10) || 1; }"
+				// places the cells of the row by their column position, pending holds the cells spanned from above
+				+ "function place(row, selector, pending) {"
+				+ " var placed = [], column = 0;"
+				+ " pending.forEach(function(entry, index) {"
+				+ "  if (entry.rows > 0) { placed[index] = entry.cell; entry.rows--; } });"
+				+ " Array.prototype.forEach.call(row.querySelectorAll(selector), function(cell) {"
+				+ "  while (placed[column] !== undefined) { column++; }"
+				+ "  var colSpan = span(cell, 'colSpan', 'aria-colspan'), rowSpan = span(cell, 'rowSpan', 'aria-rowspan');"
+				+ "  for (var offset = 0; offset < colSpan; offset++) {"
+				+ "   placed[column + offset] = cell; pending[column + offset] = {cell: cell, rows: rowSpan - 1}; }"
+				+ "  column += colSpan; });"
+				+ " return placed;"
+				+ "}"
+				+ "if (start < 0) {"
+				+ " var rows = [], headerRows = [];"
+				+ " Array.prototype.forEach.call(table.querySelectorAll(rowSelector), function(row) {"
+				+ "  if (row.querySelector(cellSelector)) { rows.push(row); }"
+				+ "  else if (row.querySelector(headerSelector)) { headerRows.push(row); } });"
+				+ " reads[readId] = {rows: rows, pending: []};"
+				+ " var headers = [], headerPending = [];"
+				+ " if (headerRows.length) {"
+				+ "  var levels = headerRows.map(function(row) { return place(row, headerSelector, headerPending); });"
+				+ "  var width = Math.max.apply(null, levels.map(function(level) { return level.length; }));"
+				+ "  for (var column = 0; column < width; column++) {"
+				+ "   var level = levels.length - 1;"
+				+ "   while (level > 0 && !levels[level][column]) { level--; }"
+				+ "   headers.push(levels[level][column] ? text(levels[level][column]) : ''); }"
+				+ " } else {"
+				// header cells which are not with in the rows (eg: grids without the header row)
+				+ "  headers = Array.prototype.filter.call(table.querySelectorAll(headerSelector), function(cell) {"
+				+ "   var row = cell.closest(rowSelector); return !row || !table.contains(row); }).map(text);"
+				+ " }"
+				+ " return {total: rows.length, headers: headers,"
+				+ "  cells: rows.length ? place(rows[0], cellSelector + ',' + headerSelector, []).length : 0};"
+				+ "}"
+				+ "var state = reads[readId];"
+				+ "if (!state) { return 'Rows of the table are not available, table is re-created or navigated'; }"
+				+ "var pageRows = state.rows.slice(start, start + size);"
+				+ "if (!pageRows.every(function(row) { return row.isConnected; })) {"
+				+ " return 'Rows of the table are re-rendered while reading the table'; }"
+				+ "return pageRows.map(function(row) {"
+				+ " var placed = place(row, cellSelector + ',' + headerSelector, state.pending);"
+				+ " return columns.map(function(column) { return text(placed[column]); });"
+				+ "});";
+
+		// each read keeps its own rows, so that the nested/parallel reads of the table don't clash
+		String readId = UUID.randomUUID().toString();
+		try {
+			@SuppressWarnings("unchecked")
+			Map<String, Object> tableInfo = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(javaScript,
+					table, -1, 0, null, rowCssSelector, cellCssSelector, headerCssSelector, readId);
+			int totalRows = ((Number) tableInfo.get("total")).intValue();
+			@SuppressWarnings("unchecked")
+			List<String> headers = (List<String>) tableInfo.get("headers");
+
+			// resolve the column positions of the mapped columns
+			List<Long> columnIndexes = new ArrayList<>();
+			List<String> columnNames = new ArrayList<>();
+			if (columnMapping == null) {
+				// column index is used as the name when the table (or the column) does not have headers
+				int totalColumns = headers.isEmpty() ? ((Number) tableInfo.get("cells")).intValue() : headers.size();
+				for (int index = 0; index < totalColumns; index++) {
+					columnIndexes.add((long) index);
+					columnNames.add((headers.isEmpty() || headers.get(index).isEmpty()) ? String.valueOf(index)
+							: headers.get(index));
+				}
+			} else {
+				for (Map.Entry<String, String> column : columnMapping.entrySet()) {
+					int index = headers.indexOf(column.getKey());
+					if (index < 0 && column.getKey().matches("\\d+")) {
+						index = Integer.parseInt(column.getKey());
+					}
+					if (index < 0) {
+						throw new NoSuchElementException("Column '" + column.getKey() + "' is not available in the table "
+								+ tableLocator + ", available columns :- " + headers);
+					}
+					columnIndexes.add((long) index);
+					columnNames.add(column.getValue());
+				}
+			}
+
+			this.logAccess.getLogger().debug("Table has " + totalRows + " rows, reading columns :- " + columnNames);
+			for (int start = 0; start < totalRows; start += CommonVariables.TABLE_PAGE_SIZE) {
+				Object pageResult = ((JavascriptExecutor) driver).executeScript(javaScript, table, start,
+						CommonVariables.TABLE_PAGE_SIZE, columnIndexes, rowCssSelector, cellCssSelector, headerCssSelector,
+						readId);
+				if (pageResult instanceof String) {
+					throw new StaleElementReferenceException(pageResult + " :- " + tableLocator);
+				}
+				@SuppressWarnings("unchecked")
+				List<List<String>> pageRows = (List<List<String>>) pageResult;
+				List<Map<String, String>> page = new ArrayList<>();
+				for (List<String> pageRow : pageRows) {
+					Map<String, String> row = new LinkedHashMap<>();
+					for (int index = 0; index < columnNames.size(); index++) {
+						row.put(columnNames.get(index), pageRow.get(index));
+					}
+					page.add(row);
+				}
+				pageConsumer.accept(page);
+			}
+			return totalRows;
+		} finally {
+			try {
+				((JavascriptExecutor) driver).executeScript(
+						"var reads = arguments[0].__fwTableReads; if (reads) { delete reads[arguments[1]]; }", table,
+						readId);
+			} catch (WebDriverException webDriverException) {
+				// table is no more in the page, rows kept for the read are dropped along with it
+			}
+		}
+	}
+
+	/**
+	 * Executes the JavaScript on the specified element.
+	 *
+	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param element    the {@link org.openqa.selenium.WebElement element}
+	 * @param javaScript the java script
+	 */
+	public void executeJs(WebDriver driver, WebElement element, String javaScript) {
+
+		this.logAccess.getLogger().debug("Executing \"" + javaScript + "\" JavaScript on element :- " + element);
+		JavascriptExecutor js = (JavascriptExecutor) driver;
+		js.executeScript(javaScript, element);
+	}
+
+	/**
+	 * Executes the JavaScript.
+	 *
+	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param javaScript the java script
+	 */
+	public void executeJs(WebDriver driver, String javaScript) {
+		this.logAccess.getLogger().debug("Executing \"" + javaScript + "\" JavaScript");
+		JavascriptExecutor js = (JavascriptExecutor) driver;
+		js.executeScript(javaScript);
+	}
+
+	/*
+	 * !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!Private Methods
+	 * !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
+	 */
+
+	/**
+	 * Gets the original style.
+	 *
+	 * @param element the {@link org.openqa.selenium.WebElement element}
+	 * @return the original style
+	 */
+	private String getOriginalStyle(WebElement element) {
+		this.logAccess.getLogger().debug("Getting original style of element :- " + element);
+		return element.getAttribute("style");
+	}
+
+	/**
+	 * Sets the original style of the element.
+	 *
+	 * @param driver        the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param element       the {@link org.openqa.selenium.WebElement element}
+	 * @param originalStyle the original style
+	 */
+	private void setOriginalStyle(WebDriver driver, WebElement element, String originalStyle) {
+		try {
+			this.logAccess.getLogger().debug("Setting original style \"" + originalStyle + "\" to element :- " + element);
+			// style is passed as argument so that the quotes in the style does not break the script
+			String js = "if (arguments[1] === null) { arguments[0].removeAttribute('style'); }"
+					+ " else { arguments[0].setAttribute('style', arguments[1]); }";
+			((JavascriptExecutor) driver).executeScript(js, element, originalStyle);
+		} catch (Exception e) {
+			// ignore exceptions as there might be cases where either the element
+			// is refreshed or no more exist or might the element reference might updated (stale element)
+		}
+	}
+
+	/**
+	 * Executes the asynchronous JavaScript, script timeout will be extended to the
+	 * max timeout while the script is running and set back after that.
+	 *
+	 * @param driver     the driver
+	 * @param maxTimeout the max timeout in seconds
+	 * @param javaScript the asynchronous java script (callback will be the last
+	 *                   argument)
+	 * @param arguments  the script arguments
+	 * @return the value passed to the callback
+	 */
+	private Object executeAsyncJs(WebDriver driver, int maxTimeout, String javaScript, Object... arguments) {
+		this.logAccess.getLogger().debug("Executing asynchronous JavaScript for max of " + maxTimeout + " seconds");
+		WebDriver.Timeouts timeouts = driver.manage().timeouts();
+		Duration originalScriptTimeout = timeouts.getScriptTimeout();
+		// give the script a second more than the max timeout so that it can report the status
+		timeouts.scriptTimeout(Duration.ofSeconds(maxTimeout + 1L));
+		try {
+			return ((JavascriptExecutor) driver).executeAsyncScript(javaScript, arguments);
+		} finally {
+			timeouts.scriptTimeout(originalScriptTimeout);
+		}
+	}
+
+	/**
+	 * Waits for the element invisibility using the MutationObserver in the page.
+	 *
+	 * @param driver     the driver
+	 * @param target     the {@link org.openqa.selenium.WebElement element} or the
+	 *                   locator query (see {@link #getLocatorQuery})
+	 * @param maxTimeout the max timeout in seconds
+	 * @return the status of element invisibility, null if the observer was not able
+	 * to complete (eg: page navigated while observing)
+	 */
+	private Boolean observeInvisibility(WebDriver driver, Object target, int maxTimeout) {
+		String javaScript = JS_LOCATOR_FUNCTIONS
+				+ "var target = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];"
+				+ "var timer, observer;"
+				+ "function isGone() { var ele = (target && target.using) ? fwLocate(target, document) : target;"
+				+ " return !ele || !fwIsVisible(ele); }"
+				+ "function check() { if (isGone()) { finish(true); } }"
+				+ "function finish(status) { observer.disconnect(); clearTimeout(timer);"
+				+ " document.removeEventListener('transitionend', check, true);"
+				+ " document.removeEventListener('animationend', check, true); done(status); }"
+				+ "if (isGone()) { done(true); return; }"
+				+ "observer = new MutationObserver(check);"
+				+ "observer.observe(document, {attributes: true, childList: true, subtree: true});"
+				// style changes done with CSS transitions/animations don't mutate the DOM
+				+ "document.addEventListener('transitionend', check, true);"
+				+ "document.addEventListener('animationend', check, true);"
+				+ "timer = setTimeout(function() { finish(isGone()); }, timeout);";
+		try {
+			return (Boolean) executeAsyncJs(driver, maxTimeout, javaScript, target, maxTimeout * 1000L);
+		} catch (StaleElementReferenceException staleElementException) {
+			// element is removed from the DOM
+			return true;
+		} catch (WebDriverException webDriverException) {
+			this.logAccess.getLogger().debug("Unable to observe element invisibility, falling back to polling :- "
+					+ webDriverException.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Probes for the element matching the expected condition with a single
+	 * findElements call, implicit wait will be suspended while probing.
+	 *
+	 * @param driver            the driver
+	 * @param byLocator         the by locator
+	 * @param expectedCondition the expected condition
+	 * @return the web element, null if there is no element matching the expected
+	 * condition
+	 */
+	private WebElement probeElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition) {
+		prepareLocatorContext(driver, byLocator);
+		WebDriver.Timeouts timeouts = driver.manage().timeouts();
+		// implicit wait of the driver is suspended, so that the absent element is not waited
+		Duration implicitWaitTimeout = timeouts.getImplicitWaitTimeout();
+		boolean isSuspendImplicitWait = !implicitWaitTimeout.isZero();
+		if (isSuspendImplicitWait) {
+			timeouts.implicitlyWait(Duration.ZERO);
+		}
+		try {
+			List<WebElement> elements = driver.findElements(byLocator);
+			return (!elements.isEmpty() && probeElement(elements.get(0), expectedCondition)) ? elements.get(0) : null;
+		} finally {
+			if (isSuspendImplicitWait) {
+				timeouts.implicitlyWait(implicitWaitTimeout);
+			}
+		}
+	}
+
+	/**
+	 * Probes the element status for the expected condition without waiting.
+	 *
+	 * @param element           the element
+	 * @param expectedCondition the expected condition
+	 * @return true, if the element matches the expected condition
+	 */
+	private boolean probeElement(WebElement element, ExpectedConditionsEnums expectedCondition) {
+		try {
+			switch (expectedCondition) {
+				case CLICKABLE:
+					return element.isEnabled();
+				case VISIBLE:
+					return element.isDisplayed();
+				default:
+					// any call on the element will fail if it is no more in the DOM
+					element.getTagName();
+					return true;
+			}
+		} catch (NoSuchElementException | StaleElementReferenceException ignoreException) {
+			return false;
+		}
+	}
+
+	/**
+	 * Highlights the element with a single JavaScript call.
+	 *
+	 * @param driver                  the driver
+	 * @param element                 the element
+	 * @param bordersOnly             highlight the element borders only
+	 * @param isScrollElementToCenter is element need to be scrolled to center or not
+	 * @return the original style of the element (null if the element does not
+	 * have style attribute)
+	 */
+	private String highlight(WebDriver driver, WebElement element, boolean bordersOnly,
+							 boolean isScrollElementToCenter) {
+		String javaScript = "var ele = arguments[0], originalStyle = ele.getAttribute('style');"
+				+ "if (arguments[2]) { ele.scrollIntoView({behavior: 'auto', block: 'center', inline: 'center'}); }"
+				+ "if (arguments[1]) { ele.style.border = '3px solid ' + arguments[3]; }"
+				+ " else { ele.style.background = arguments[3]; }"
+				+ "return originalStyle;";
+		return (String) ((JavascriptExecutor) driver).executeScript(javaScript, element, bordersOnly,
+				isScrollElementToCenter, this.highlightBgColor);
+	}
+
+	/**
+	 * Highlights the element (based on the {@link EvidenceModeEnums evidence
+	 * mode}), captures the screenshot and sets back the element original style.
+	 *
+	 * @param driver              the driver
+	 * @param element             the element
+	 * @param isCaptureScreenShot the is capture screen shot
+	 * @param screenShotName      the screen shot name
+	 * @throws Exception the exception
+	 */
+	private void captureElementEvidence(WebDriver driver, WebElement element, boolean isCaptureScreenShot,
+										String screenShotName) throws Exception {
+		boolean isHighlight = this.evidenceMode == EvidenceModeEnums.ALWAYS_HIGHLIGHT
+				|| (isCaptureScreenShot && this.evidenceMode == EvidenceModeEnums.HIGHLIGHT_ON_CAPTURE);
+		String originalStyle = null;
+		if (isHighlight) {
+			try {
+				originalStyle = highlight(driver, element, false, false);
+			} catch (Exception e) {
+				// ignore exception as sometimes the element might either not exist
+				// or might get refreshed
+				isHighlight = false;
+			}
+		}
+		try {
+			if (isCaptureScreenShot) {
+				// highlighted screenshot is not deduplicated as only the highlight might differ
+				captureScreenShotAsync(driver, screenShotName, !isHighlight);
+			}
+		} finally {
+			// the highlight is removed even if the capture fails, so that it is not in the later screenshots
+			if (isHighlight) {
+				setOriginalStyle(driver, element, originalStyle);
+			}
+		}
+	}
+
+	/**
+	 * Reads the options of the list in a single JavaScript call, rather
+	 * materializing each option as {@link org.openqa.selenium.WebElement
+	 * WebElement}.
+	 *
+	 * @param driver  the driver
+	 * @param element the list element
+	 * @param mode    text (text of all options), selectedText (text of the
+	 *                selected options) or selectedIndex (index of the selected
+	 *                options)
+	 * @return the option texts or indexes
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Object> readListItems(WebDriver driver, WebElement element, String mode) {
+		String javaScript = "var mode = arguments[1], items = [];"
+				+ "Array.prototype.forEach.call(arguments[0].options, function(opt) {"
+				+ " if (mode === 'text') { items.push(opt.text.trim()); }"
+				+ " else if (opt.selected) { items.push(mode === 'selectedIndex' ? opt.index : opt.text.trim()); }"
+				+ "});"
+				+ "return items;";
+		return (List<Object>) executeListJs(driver, element, javaScript, mode);
+	}
+
+	/**
+	 * Executes the JavaScript on the list, the tag of the element is checked in
+	 * the same script.
 	 *
-	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param byLocator         the by locator
-	 * @param expectedCondition the expected condition
-	 * @return WebElement
-	 * @throws Exception the exception
-	 */
-	public WebElement getElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition,
-								 int maxTimeOut) throws Exception {
-		return waitForElement(driver, byLocator, expectedCondition, maxTimeOut);
+	 * @param driver     the driver
+	 * @param element    the list element, passed as the first argument
+	 * @param javaScript the java script
+	 * @param arguments  the other arguments
+	 * @return the result of the script
+	 * @throws UnexpectedTagNameException if the element is not a select, same as
+	 *                                    the {@link Select}
+	 */
+	private Object executeListJs(WebDriver driver, WebElement element, String javaScript, Object... arguments) {
+		Object[] scriptArguments = new Object[arguments.length + 1];
+		scriptArguments[0] = element;
+		System.arraycopy(arguments, 0, scriptArguments, 1, arguments.length);
+		Object result = ((JavascriptExecutor) driver).executeScript("var fwTagName = arguments[0].tagName.toLowerCase();"
+				+ "if (fwTagName !== 'select') { return {fwUnexpectedTagName: fwTagName}; }"
+				+ javaScript, scriptArguments);
+		if (result instanceof Map && ((Map<?, ?>) result).containsKey("fwUnexpectedTagName")) {
+			throw new UnexpectedTagNameException("select", (String) ((Map<?, ?>) result).get("fwUnexpectedTagName"));
+		}
+		return result;
 	}
-	
+
 	/**
-	 * gets the element based on the locator
+	 * Performs the action on the element of the locator with the
+	 * {@link RetryPolicy retry policy}. Cached element of the locator is dropped
+	 * when the action fails with the stale element, even if it is not retried.
 	 *
-	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param byLocator         the by locator
-	 * @param expectedCondition the expected condition
-	 * @param isScrollElementToCenter is element need to be scrolled to center or not
-	 * @return WebElement
+	 * @param <T>       the result type
+	 * @param driver    the driver
+	 * @param byLocator the by locator
+	 * @param action    the action
+	 * @return the result of the action
 	 * @throws Exception the exception
 	 */
-	public WebElement getElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition,
-								 int maxTimeOut, boolean isScrollElementToCenter) throws Exception {
-		return waitForElement(driver, byLocator, expectedCondition, maxTimeOut);
+	private <T> T executeOnLocator(WebDriver driver, By byLocator, RetryPolicy.RetryableAction<T> action)
+			throws Exception {
+		return this.retryPolicy.execute(() -> {
+			try {
+				return action.perform();
+			} catch (StaleElementReferenceException sere) {
+				this.locatorCache.invalidate(byLocator);
+				throw sere;
+			}
+		}, exception -> prepareRetry(driver, byLocator, null, exception));
 	}
 
 	/**
-	 * gets the element based on the element expected condition
+	 * Prepares the element action to be retried by the {@link RetryPolicy retry
+	 * policy}. Cached element of the locator is dropped for the stale element and
+	 * for the intercepted click, waits (for max of
+	 * {@link CommonVariables#MIN_TIMEOUT MIN_TIMEOUT}) till the element is no more
+	 * covered by the overlay.
 	 *
-	 * @param driver            the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param element           the WebElement
-	 * @param expectedCondition the expected condition
-	 * @return WebElement
-	 * @throws Exception the exception
+	 * @param driver    the driver
+	 * @param byLocator the by locator (null when the action is on the element)
+	 * @param element   the element (null when the action is by locator)
+	 * @param exception the failure of the action
 	 */
-	public WebElement getElement(WebDriver driver, WebElement element, ExpectedConditionsEnums expectedCondition,
-								 int maxTimeOut) throws Exception {
-		return waitForElement(driver, element, expectedCondition, maxTimeOut);
+	private void prepareRetry(WebDriver driver, By byLocator, WebElement element, Exception exception) {
+		this.logAccess.getLogger().warn("Retrying (" + this.retryPolicy.getName() + ") "
+				+ (byLocator != null ? byLocator : element) + " after :- " + exception.getClass().getSimpleName());
+		if (byLocator != null) {
+			this.locatorCache.invalidate(byLocator);
+		}
+		if (exception instanceof ElementClickInterceptedException) {
+			try {
+				WebElement target = (byLocator != null)
+						? findMatchingElement(driver, byLocator, ExpectedConditionsEnums.PRESENCE) : element;
+				if (target != null) {
+					// element is not covered when it is the top most element at its center
+					webDriverWait(driver, CommonVariables.MIN_TIMEOUT).until(wd -> (Boolean) ((JavascriptExecutor) wd)
+							.executeScript("var ele = arguments[0], rect = ele.getBoundingClientRect();"
+									+ "var top = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);"
+									+ "return !!top && (top === ele || ele.contains(top));", target));
+				}
+			} catch (WebDriverException webDriverException) {
+				// overlay is still there (or element is gone), retry will report the failure
+			}
+		}
 	}
 
 	/**
-	 * gets the element based on the element and max timeout
+	 * Waits till the page is rendered, i.e. the scroll position is not changed
+	 * for two animation frames. Wait will not exceed the sleep it replaces (eg:
+	 * when the animation frames are not fired for the background tab).
 	 *
-	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param element    the WebElement
-	 * @param maxTimeOut Maximum time to wait for the element
-	 * @return WebElement
-	 * @throws Exception the exception
-	 */
-	public WebElement getElement(WebDriver driver, WebElement element, int maxTimeOut) throws Exception {
-		return waitForElement(driver, element, ExpectedConditionsEnums.VISIBLE, maxTimeOut);
+	 * @param driver              the driver
+	 * @param replacedSleepMillis the fixed sleep replaced by this wait in
+	 *                            milliseconds
+	 */
+	private void waitForRendering(WebDriver driver, long replacedSleepMillis) {
+		long waitStartTime = System.currentTimeMillis();
+		String javaScript = "var maxWait = arguments[0], done = arguments[arguments.length - 1];"
+				+ "var lastX = -1, lastY = -1, stableFrames = 0;"
+				+ "var timer = setTimeout(function() { done(false); }, maxWait);"
+				+ "function frame() {"
+				+ " if (window.pageXOffset === lastX && window.pageYOffset === lastY) { stableFrames++; }"
+				+ " else { stableFrames = 0; lastX = window.pageXOffset; lastY = window.pageYOffset; }"
+				+ " if (stableFrames >= 2) { clearTimeout(timer); done(true); } else { requestAnimationFrame(frame); }"
+				+ "}"
+				+ "requestAnimationFrame(frame);";
+		try {
+			executeAsyncJs(driver, CommonVariables.MIN_TIMEOUT, javaScript, replacedSleepMillis);
+		} catch (WebDriverException webDriverException) {
+			this.logAccess.getLogger().debug("Unable to wait for the rendering :- " + webDriverException.getMessage());
+		}
+		recordSavedSleep(replacedSleepMillis, waitStartTime);
 	}
 
 	/**
-	 * Gets the elements.
+	 * Records the time saved by waiting for the condition instead of the fixed
+	 * sleep.
 	 *
-	 * @param driver    the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param byLocator the by locator
-	 * @return the list of elements,empty list will be return if there are no
-	 * matching elements
+	 * @param replacedSleepMillis the fixed sleep replaced by the wait in
+	 *                            milliseconds
+	 * @param waitStartTime       the time when the wait was started
 	 */
-	public List<WebElement> getElements(WebDriver driver, By byLocator) {
-		return getElements(driver, byLocator, CommonVariables.MED_TIMEOUT);
-
+	private void recordSavedSleep(long replacedSleepMillis, long waitStartTime) {
+		long savedMillis = replacedSleepMillis - (System.currentTimeMillis() - waitStartTime);
+		if (savedMillis > 0) {
+			this.logAccess.getLogger().debug("Saved " + savedMillis + " ms of sleep, total saved :- "
+					+ SAVED_SLEEP_MILLIS.addAndGet(savedMillis) + " ms");
+		}
 	}
 
 	/**
-	 * Gets the elements.
+	 * Scrolls the element to the center based on the {@link ScrollModeEnums scroll
+	 * mode}.
 	 *
-	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param byLocator  the by locator
-	 * @param maxTimeOut Maximum time to wait for the element
-	 * @return the elements,empty list will be return if there are no matching
-	 * elements
+	 * @param driver  the driver
+	 * @param element the element to be scrolled
 	 */
-	public List<WebElement> getElements(WebDriver driver, By byLocator, int maxTimeOut) {
-		List<WebElement> listElements = new ArrayList<WebElement>();
-		// check if the elements are present
-		try {
-			// get the elements if they are present
-			listElements = waitForElementsToVisible(driver, byLocator, maxTimeOut);
-		} catch (Exception e) {
-			// Do nothing when
+	private void scrollElementToCenter(WebDriver driver, WebElement element) {
+		switch (this.scrollMode) {
+			case ALWAYS:
+				scrollElement(driver, element, "center");
+				break;
+			case IF_NEEDED:
+				((JavascriptExecutor) driver).executeScript(JS_LOCATOR_FUNCTIONS + "return fwScrollIfNeeded(arguments[0]);",
+						element);
+				break;
+			default:
+				break;
 		}
-		return listElements;
 	}
 
 	/**
-	 * Executes the JavaScript on the specified element.
+	 * Prepares the browsing context for the locator, the driver left in a frame
+	 * by a {@link ByFrame} locator is switched back to the default content for a
+	 * plain locator.
 	 *
-	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param element    the {@link org.openqa.selenium.WebElement element}
-	 * @param javaScript the java script
+	 * @param driver    the driver
+	 * @param byLocator the by locator
 	 */
-	public void executeJs(WebDriver driver, WebElement element, String javaScript) {
-
-		this.logAccess.getLogger().debug("Executing \"" + javaScript + "\" JavaScript on element :- " + element);
-		JavascriptExecutor js = (JavascriptExecutor) driver;
-		js.executeScript(javaScript, element);
+	private void prepareLocatorContext(WebDriver driver, By byLocator) {
+		if (byLocator instanceof ByFrame) {
+			// the frame is switched by the locator itself
+			this.frameLocatorDriver = driver;
+		} else if (this.frameLocatorDriver == driver) {
+			driver.switchTo().defaultContent();
+			this.frameLocatorDriver = null;
+		}
 	}
 
 	/**
-	 * Executes the JavaScript.
+	 * Gets the cached element for the locator if it is resolved in the current
+	 * page and still matches the expected condition. Stale elements and the
+	 * elements of the other pages will be removed from the cache.
 	 *
-	 * @param driver     the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param javaScript the java script
+	 * @param driver                  the driver
+	 * @param byLocator               the by locator
+	 * @param expectedCondition       the expected condition
+	 * @param isScrollElementToCenter is element need to be scrolled to center or not
+	 * @return the cached element, null if there is no usable element in the cache
 	 */
-	public void executeJs(WebDriver driver, String javaScript) {
-		this.logAccess.getLogger().debug("Executing \"" + javaScript + "\" JavaScript");
-		JavascriptExecutor js = (JavascriptExecutor) driver;
-		js.executeScript(javaScript);
+	private WebElement getCachedElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition,
+										boolean isScrollElementToCenter) {
+		LocatorCache.CachedElement cachedElement = this.locatorCache.get(driver, byLocator);
+		if (cachedElement == null) {
+			return null;
+		}
+		try {
+			// cached element is usable only with in its own frame
+			if (byLocator instanceof ByFrame) {
+				((ByFrame) byLocator).switchToFrame(driver);
+			}
+			// page and the expected condition are checked in a single script
+			boolean isUsable = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(JS_LOCATOR_FUNCTIONS
+					+ "return " + LocatorCache.PAGE_TOKEN + " === arguments[1] && fwMatches(arguments[0], arguments[2]);",
+					cachedElement.getElement(), cachedElement.getPageToken(), expectedCondition.toString()));
+			if (isUsable) {
+				if (isScrollElementToCenter && this.scrollMode != ScrollModeEnums.NEVER) {
+					scrollElementToCenter(driver, cachedElement.getElement());
+				}
+				this.logAccess.getLogger().debug("Using cached element for :- " + byLocator);
+				return cachedElement.getElement();
+			}
+		} catch (StaleElementReferenceException | NoSuchElementException ignoreException) {
+			// element will be located again
+		}
+		this.locatorCache.invalidate(byLocator);
+		return null;
 	}
 
-	/*
-	 * !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!Private Methods
-	 * !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
+	/**
+	 * Gets the token of the current page, see
+	 * {@link LocatorCache#PAGE_TOKEN}.
+	 *
+	 * @param driver the driver
+	 * @return the page token, null if it can't be read
 	 */
+	private Object getPageToken(WebDriver driver) {
+		try {
+			return ((JavascriptExecutor) driver).executeScript("return " + LocatorCache.PAGE_TOKEN);
+		} catch (WebDriverException webDriverException) {
+			return null;
+		}
+	}
 
 	/**
-	 * Gets the original style.
+	 * Gets the JavaScript query (W3C locator strategy and value) for the locator,
+	 * which can be used with {@link #JS_LOCATOR_FUNCTIONS}.
 	 *
-	 * @param element the {@link org.openqa.selenium.WebElement element}
-	 * @return the original style
+	 * @param byLocator the by locator
+	 * @return the query, null if the locator can't be resolved with JavaScript
 	 */
-	private String getOriginalStyle(WebElement element) {
-		this.logAccess.getLogger().debug("Getting original style of element :- " + element);
-		return element.getAttribute("style");
+	private Map<String, Object> getLocatorQuery(By byLocator) {
+		if (!(byLocator instanceof By.Remotable)) {
+			return null;
+		}
+		By.Remotable.Parameters parameters = ((By.Remotable) byLocator).getRemoteParameters();
+		Map<String, Object> query = new HashMap<>();
+		query.put("using", parameters.using());
+		query.put("value", String.valueOf(parameters.value()));
+		return query;
 	}
 
 	/**
-	 * Sets the original style of the element.
+	 * Finds the element matching the expected condition without waiting.
 	 *
-	 * @param driver        the {@link org.openqa.selenium.WebDriver WebDriver}
-	 * @param element       the {@link org.openqa.selenium.WebElement element}
-	 * @param originalStyle the original style
+	 * @param driver            the driver
+	 * @param byLocator         the by locator
+	 * @param expectedCondition the expected condition
+	 * @return the web element, null if no element matches the expected condition
 	 */
-	private void setOriginalStyle(WebDriver driver, WebElement element, String originalStyle) {
+	private WebElement findMatchingElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition) {
 		try {
-			this.logAccess.getLogger().debug("Setting original style \"" + originalStyle + "\" to element :- " + element);
-			String js = "arguments[0].setAttribute('style', '" + originalStyle + "');";
-			executeJs(driver, element, js);
-		} catch (Exception e) {
-			// ignore exceptions as there might be cases where either the element
-			// is refreshed or no more exist or might the element reference might updated (stale element)
+			switch (expectedCondition) {
+				case CLICKABLE:
+					return ExpectedConditions.elementToBeClickable(byLocator).apply(driver);
+				case VISIBLE:
+					return ExpectedConditions.visibilityOfElementLocated(byLocator).apply(driver);
+				default:
+					List<WebElement> elements = driver.findElements(byLocator);
+					return elements.isEmpty() ? null : elements.get(0);
+			}
+		} catch (NoSuchElementException | StaleElementReferenceException ignoreException) {
+			// element is not available yet, caller will check again in the next poll
+			return null;
 		}
 	}
 
@@ -2907,6 +5125,7 @@ public class CommonFunctions {
 	private WebElement waitUntilElement(WebDriver driver, WebElement element, ExpectedConditionsEnums expectedCondition,
 										int maxTimeout, boolean isScrollElementToCenter) throws Exception {
 		// driver.manage().timeouts().implicitlyWait(0, TimeUnit.SECONDS);
+		// element references are not reused across the tests, so the timings are not learned
 		WebDriverWait wait = webDriverWait(driver, maxTimeout);
 		
 		WebElement returnElement;
@@ -2936,7 +5155,7 @@ public class CommonFunctions {
 						+ ". This method supports clickable, Visible and Presence options.");
 		}
 		
-		if(isScrollElementToCenter) scrollElement(driver, returnElement, "center");
+		if(isScrollElementToCenter) scrollElementToCenter(driver, returnElement);
 		
 		return returnElement;
 	}
@@ -2986,47 +5205,84 @@ public class CommonFunctions {
 	 */
 	private WebElement waitUntilElement(WebDriver driver, By byLocator, ExpectedConditionsEnums expectedCondition,
 										int maxTimeout, boolean isScrollElementToCenter) throws Exception {
+		prepareLocatorContext(driver, byLocator);
+		if (this.spaSyncMode && maxTimeout > CommonVariables.NO_TIMEOUT) {
+			// SPA sync has its own short budget, the element wait keeps its full timeout
+			waitForSpaIdle(driver, Math.min(CommonVariables.SPA_SYNC_TIMEOUT, maxTimeout * 1000L), true);
+		}
+		if (this.locatorCacheEnabled) {
+			WebElement cachedElement = getCachedElement(driver, byLocator, expectedCondition, isScrollElementToCenter);
+			if (cachedElement != null) {
+				return cachedElement;
+			}
+		}
+		String waitKey = byLocator + "|" + expectedCondition;
+		if (this.autoTunedTimeouts && maxTimeout > CommonVariables.NO_TIMEOUT) {
+			maxTimeout = WaitProfiler.getTimeout(waitKey, maxTimeout);
+		}
 		// driver.manage().timeouts().implicitlyWait(0, TimeUnit.SECONDS);
-		WebDriverWait wait = webDriverWait(driver, maxTimeout);
+		AdaptiveSleeper sleeper = this.adaptivePolling ? new AdaptiveSleeper(waitKey, maxTimeout) : null;
+		WebDriverWait wait = webDriverWait(driver, maxTimeout, sleeper);
 		
 		WebElement returnElement;
-		switch (expectedCondition) {
-			case CLICKABLE:
-				returnElement = wait.until(ExpectedConditions.elementToBeClickable(byLocator));
-				break;
-			case PRESENCE:
-				returnElement = wait.until(ExpectedConditions.presenceOfElementLocated(byLocator));
-				break;
-			case VISIBLE:
-				returnElement = wait.until(ExpectedConditions.visibilityOfElementLocated(byLocator));
-				break;
-			default:
-				throw new IllegalArgumentException("????Unexpected value: " + expectedCondition
-						+ ". This method supports clickable and Presence options. Please use waitUntilElement by locator method for VISIBLE.");
+		// locate and scroll the element (only if needed) in the same script
+		Map<String, Object> query = (isScrollElementToCenter && this.scrollMode == ScrollModeEnums.IF_NEEDED)
+				? getLocatorQuery(byLocator) : null;
+		long waitStartTime = System.currentTimeMillis();
+		try {
+			switch (expectedCondition) {
+				case CLICKABLE:
+					returnElement = wait.until(ExpectedConditions.elementToBeClickable(byLocator));
+					break;
+				case PRESENCE:
+					if (query != null) {
+						returnElement = wait.until(wd -> (WebElement) ((JavascriptExecutor) wd).executeScript(
+								JS_LOCATOR_FUNCTIONS + "var ele = fwLocate(arguments[0], document);"
+										+ "if (ele) { fwScrollIfNeeded(ele); } return ele;", query));
+						isScrollElementToCenter = false;
+					} else {
+						returnElement = wait.until(ExpectedConditions.presenceOfElementLocated(byLocator));
+					}
+					break;
+				case VISIBLE:
+					returnElement = wait.until(ExpectedConditions.visibilityOfElementLocated(byLocator));
+					break;
+				default:
+					throw new IllegalArgumentException("????Unexpected value: " + expectedCondition
+							+ ". This method supports clickable and Presence options. Please use waitUntilElement by locator method for VISIBLE.");
+			}
+		} catch (TimeoutException timeoutException) {
+			if (this.waitProfiling) WaitProfiler.record(waitKey, System.currentTimeMillis() - waitStartTime, false);
+			throw timeoutException;
 		}
-		if(isScrollElementToCenter) scrollElement(driver, returnElement, "center");
+		if (this.waitProfiling) WaitProfiler.record(waitKey, System.currentTimeMillis() - waitStartTime, true);
+		if (sleeper != null) sleeper.recordTiming();
+		if(isScrollElementToCenter) scrollElementToCenter(driver, returnElement);
+		if (this.locatorCacheEnabled) this.locatorCache.put(driver, byLocator, returnElement, getPageToken(driver));
 		return returnElement;
 	}
 	/**
 	 * Capture multiple images in chunks one per each window height and then capture
 	 * last screenshot if any part is left over. This will also handle the element
-	 * to be hidden.
-	 *
-	 * @param driver               the driver
-	 * @param tempImagesFolderPath temporary folder where the images should be
-	 *                             stored
-	 * @param hideElement          header element that need to hidden based on the
-	 *                             notIncludeHeader flag
-	 * @param notIncludeHeader     not included the header based on this<br>
-	 *                             <font color='blue'>Note : First screenshot will
-	 *                             show the header and will be hidden in the
-	 *                             subsequent screenshots if you choose <b>true</b>
-	 *                             and opposite holds good too</font>
+	 * to be hidden.<br>
+	 * Chunks are kept in the memory, each chunk is decoded only once.
+	 *
+	 * @param driver           the driver
+	 * @param hideElement      header element that need to hidden based on the
+	 *                         notIncludeHeader flag, null if nothing to be hidden
+	 * @param notIncludeHeader not included the header based on this<br>
+	 *                         <font color='blue'>Note : First screenshot will
+	 *                         show the header and will be hidden in the
+	 *                         subsequent screenshots if you choose <b>true</b>
+	 *                         and opposite holds good too</font>
+	 * @return the page chunks (top to bottom), null if the page could not be
+	 *         captured completely
 	 * @throws Exception the exception
 	 */
-	private boolean capturePageChunks(WebDriver driver, String tempImagesFolderPath, WebElement hideElement,
-									  boolean notIncludeHeader) throws Exception {
+	private List<BufferedImage> capturePageChunks(WebDriver driver, WebElement hideElement,
+												  boolean notIncludeHeader) throws Exception {
 
+		List<BufferedImage> pageChunks = new ArrayList<>();
 		boolean capturedAllPageChunks = false;
 
 		JavascriptExecutor js = ((JavascriptExecutor) driver);
@@ -3060,18 +5316,17 @@ public class CommonFunctions {
 		}
 		int coveredHeight = 0;
 		for (int screenshotIndex = startIndex; screenshotIndex < fullShots; screenshotIndex++) {
-			File tmpFile = screenCapture.getScreenshotAs(OutputType.FILE);
-			folderFileUtil.copyFile(tmpFile, new File(tempImagesFolderPath + File.separatorChar
-					+ screenshotIndex * windowHeight + ".png"));
+			pageChunks.add(captureImage(screenCapture));
 			// scroll to the next chunk
 			js.executeScript(script);
 			coveredHeight = coveredHeight + (windowHeight - 5);
-			Thread.sleep(500);
 			if (hideElement != null && screenshotIndex == 0 && notIncludeHeader) {
 				// hide the header
 				String javaScript = "arguments[0].setAttribute('style', 'display:none;');";
 				js.executeScript(javaScript, hideElement);
 			}
+			// wait for the scroll to settle and the chunk to be rendered
+			waitForRendering(driver, 500);
 		}
 
 		//TODO need to handle "java.awt.image.RasterFormatException: y lies outside the raster"
@@ -3080,18 +5335,14 @@ public class CommonFunctions {
 			int lastChunkHeight = pageHeight - coveredHeight;
 			// get the last part of the page if there is any chunk left over
 			if (lastChunkHeight > 0) {
-				File tmpFile = screenCapture.getScreenshotAs(OutputType.FILE);
-				BufferedImage lastPageBufferImage = ImageIO.read(tmpFile);
+				BufferedImage lastPageBufferImage = captureImage(screenCapture);
 				// get the image vs window px ratio
 				double pxRatio = Math.round(((double) lastPageBufferImage.getHeight() / (double) windowHeight) * 100.0)
 						/ 100.0;
 				// capture the small chunk
-				BufferedImage lastChunk = lastPageBufferImage.getSubimage(0, (int) (lastPageBufferImage.getHeight() - (lastChunkHeight * pxRatio)),
-						lastPageBufferImage.getWidth(), (int) (lastChunkHeight * pxRatio));
-
-				ImageIO.write(lastChunk, "png", tmpFile);
-				folderFileUtil.copyFile(tmpFile,
-						new File(tempImagesFolderPath + File.separatorChar + "lastScreenshot.png"));
+				pageChunks.add(lastPageBufferImage.getSubimage(0,
+						(int) (lastPageBufferImage.getHeight() - (lastChunkHeight * pxRatio)),
+						lastPageBufferImage.getWidth(), (int) (lastChunkHeight * pxRatio)));
 
 				capturedAllPageChunks = true;
 			}
@@ -3099,7 +5350,7 @@ public class CommonFunctions {
 			this.logAccess.getLogger().warn(rasterFormatException.getMessage());
 		}
 
-		if (notIncludeHeader) {
+		if (hideElement != null && notIncludeHeader) {
 			String javaScript = "arguments[0].setAttribute('style', '" + originalStyle + "');";
 			js.executeScript(javaScript, hideElement);
 		}
@@ -3107,86 +5358,169 @@ public class CommonFunctions {
 		js.executeScript(
 				"window.scrollTo(" + currentXPosition + "," + currentYPosition + ");");
 
-		return capturedAllPageChunks;
+		return capturedAllPageChunks ? pageChunks : null;
 	}
 
 	/**
 	 * * Capture multiple images in chunks one per each window height and then
 	 * capture last screenshot if any part is left over
 	 *
-	 * @param driver               the driver
-	 * @param tempImagesFolderPath temporary folder where the images should be
-	 *                             stored
+	 * @param driver the driver
+	 * @return the page chunks (top to bottom), null if the page could not be
+	 *         captured completely
 	 * @throws Exception the exception
 	 */
+	private List<BufferedImage> capturePageChunks(WebDriver driver) throws Exception {
+		return capturePageChunks(driver, null, false);
+	}
 
-	private boolean capturePageChunks(WebDriver driver, String tempImagesFolderPath) throws Exception {
-		boolean capturedAllChunks = false;
-		JavascriptExecutor js = ((JavascriptExecutor) driver);
-		// get the current scroll position
-		int currentXPosition = ((Number) js.executeScript("return window.pageXOffset")).intValue();
-		int currentYPosition = ((Number) js.executeScript("return window.pageYOffset")).intValue();
-
-		// Scroll right to the top
-		js.executeScript("window.scrollTo(0,0)");
-		TakesScreenshot screenCapture = ((TakesScreenshot) driver);
-
-		// Get the height of browser window
-		int windowHeight = ((Number) js.executeScript("return window.innerHeight")).intValue();
+	/**
+	 * Captures the screenshot as bytes and decodes it, without any temporary
+	 * file.
+	 *
+	 * @param screenCapture the screen capture
+	 * @return the screenshot image
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private BufferedImage captureImage(TakesScreenshot screenCapture) throws IOException {
+		return ImageIO.read(new ByteArrayInputStream(screenCapture.getScreenshotAs(OutputType.BYTES)));
+	}
 
-		// Get the total height of the page
-		int pageHeight = ((Number) js.executeScript("return document.body.scrollHeight")).intValue();
+	/**
+	 * Captures the full page with a single call, using the DevTools
+	 * (Chrome/Edge) or the full page screenshot (Firefox). Remote drivers are
+	 * augmented to get these capabilities.
+	 *
+	 * @param driver the driver
+	 * @return the PNG image of the full page, null if the browser does not
+	 *         support the native capture or the capture failed
+	 */
+	@SuppressWarnings("unchecked")
+	private byte[] captureNativeFullPage(WebDriver driver) {
+		try {
+			WebDriver captureDriver = driver;
+			if (driver instanceof RemoteWebDriver && !(driver instanceof HasCdp)
+					&& !(driver instanceof HasFullPageScreenshot)) {
+				captureDriver = new Augmenter().augment(driver);
+			}
+			if (captureDriver instanceof HasFullPageScreenshot) {
+				return ((HasFullPageScreenshot) captureDriver).getFullPageScreenshotAs(OutputType.BYTES);
+			}
+			if (captureDriver instanceof HasCdp) {
+				HasCdp devTools = (HasCdp) captureDriver;
+				Map<String, Object> layoutMetrics = devTools.executeCdpCommand("Page.getLayoutMetrics",
+						new HashMap<>());
+				Map<String, Object> contentSize = (Map<String, Object>) layoutMetrics.getOrDefault("cssContentSize",
+						layoutMetrics.get("contentSize"));
+				if (contentSize == null) {
+					this.logAccess.getLogger().debug("Page content size is not available, stitching the page chunks");
+					return null;
+				}
+				Map<String, Object> clip = new HashMap<>();
+				clip.put("x", 0);
+				clip.put("y", 0);
+				clip.put("width", ((Number) contentSize.get("width")).doubleValue());
+				clip.put("height", ((Number) contentSize.get("height")).doubleValue());
+				clip.put("scale", 1);
+				Map<String, Object> parameters = new HashMap<>();
+				parameters.put("format", "png");
+				parameters.put("captureBeyondViewport", true);
+				parameters.put("fromSurface", true);
+				parameters.put("clip", clip);
+				Map<String, Object> screenshot = devTools.executeCdpCommand("Page.captureScreenshot", parameters);
+				return Base64.getDecoder().decode((String) screenshot.get("data"));
+			}
+			this.logAccess.getLogger().debug("Native full page screenshot is not supported, stitching the page chunks");
+		} catch (WebDriverException | IllegalArgumentException | ClassCastException exception) {
+			this.logAccess.getLogger()
+					.warn("Native full page screenshot failed, stitching the page chunks :- " + exception.getMessage());
+		}
+		return null;
+	}
 
-		// Calculate the number of full screen shots
-		double fullFraction = pageHeight / (windowHeight - 5);
-		int fullShots = (int) fullFraction; // this simply removes the decimals
+	/**
+	 * Stitches the page chunks in to a single image, each chunk is drawn
+	 * straight in to the final image (overlapping the previous chunk by 5 pixels
+	 * and without the right most 30 pixels of the scroll bar).
+	 *
+	 * @param pageChunks the page chunks (top to bottom)
+	 * @return the stitched image
+	 */
+	private BufferedImage stitchImages(List<BufferedImage> pageChunks) {
+		BufferedImage firstImage = pageChunks.get(0);
+		BufferedImage lastImage = pageChunks.get(pageChunks.size() - 1);
+		int imageWidth = firstImage.getWidth() - 30;
+		// bufferedImageHeight = ((Number Of Images-1) * (Image Height - 5))+ LastImageHeight
+		int bufferedImageHeight = ((pageChunks.size() - 1) * (firstImage.getHeight() - 5)) + lastImage.getHeight();
 
-		// decide the start index based on the window and page height
-		int startIndex = (pageHeight == windowHeight) ? 1 : 0;
-		// Calculate our scroll script
-		String script = "window.scrollBy(0," + (windowHeight - 5) + ")";
-		int coveredHeight = 0;
-		for (int screenshotIndex = startIndex; screenshotIndex < fullShots; screenshotIndex++) {
-			File tmpFile = screenCapture.getScreenshotAs(OutputType.FILE);
-			folderFileUtil.copyFile(tmpFile, new File(tempImagesFolderPath + File.separatorChar
-					+ screenshotIndex * windowHeight + ".png"));
-			coveredHeight = coveredHeight + (windowHeight - 5);
-			// scroll to the next chunk
-			js.executeScript(script);
-			Thread.sleep(500);
+		BufferedImage finalBufferedImage = new BufferedImage(imageWidth, bufferedImageHeight,
+				BufferedImage.TYPE_INT_RGB);
+		Graphics graphics = finalBufferedImage.getGraphics();
+		// Y axis where the image should be incorporated (this will get updated after
+		// each image added to the Buffered Image.
+		int imageYOffset = 0;
+		for (BufferedImage pageChunk : pageChunks) {
+			int chunkWidth = Math.min(imageWidth, pageChunk.getWidth() - 30);
+			graphics.drawImage(pageChunk, 0, imageYOffset, chunkWidth, imageYOffset + pageChunk.getHeight(),
+					0, 0, chunkWidth, pageChunk.getHeight(), null);
+			// moving the next image 5 pixels up to make sure the images does not show
+			// any gap
+			imageYOffset += pageChunk.getHeight() - 5;
 		}
+		graphics.dispose();
+		return finalBufferedImage;
+	}
 
-		//TODO need to handle "java.awt.image.RasterFormatException: y lies outside the raster"
-		try {
-			// get last page chunk
-			int lastChunkHeight = pageHeight - coveredHeight;
-			// get the last part of the page if there is any chunk left over
-			if (lastChunkHeight > 0) {
-				File tmpFile = screenCapture.getScreenshotAs(OutputType.FILE);
-				BufferedImage lastPageBufferImage = ImageIO.read(tmpFile);
-				// get the image vs window px ratio
-				double pxRatio = Math.round(((double) lastPageBufferImage.getHeight() / (double) windowHeight) * 100.0)
-						/ 100.0;
+	/**
+	 * Writes the screenshot image to the screenshots folder.
+	 *
+	 * @param image             the screenshot image
+	 * @param outputPNGFileName output .png image file name, date time stamp will
+	 *                          be prepended
+	 * @return the screenshot path
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private String writeScreenShot(BufferedImage image, String outputPNGFileName) throws IOException {
+		ScreenShotEncoder encoder = this.screenShotEncoder;
+		return saveScreenShot(outputPNGFileName, file -> FileUtils.writeByteArrayToFile(file, encoder.encode(image)))
+				.getPath();
+	}
 
-				// capture the small chunk
-				BufferedImage lastChunk = lastPageBufferImage.getSubimage(0,
-						(int) (lastPageBufferImage.getHeight()
-								- (lastChunkHeight * pxRatio)),
-						lastPageBufferImage.getWidth(), (int) (lastChunkHeight * pxRatio));
-
-				ImageIO.write(lastChunk, "png", tmpFile);
-				folderFileUtil.copyFile(tmpFile,
-						new File(tempImagesFolderPath + File.separatorChar + "lastScreenshot.png"));
-				capturedAllChunks = true;
-			}
-		} catch (RasterFormatException rasterFormatException) {
-			this.logAccess.getLogger().warn(rasterFormatException.getMessage());
-		}
+	/**
+	 * Writes the encoded screenshot to the screenshots folder as it is.
+	 *
+	 * @param pngImage          the PNG image
+	 * @param outputPNGFileName output .png image file name, date time stamp will
+	 *                          be prepended
+	 * @return the screenshot path
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private String writeScreenShot(byte[] pngImage, String outputPNGFileName) throws IOException {
+		ScreenShotEncoder encoder = this.screenShotEncoder;
+		return saveScreenShot(outputPNGFileName,
+				file -> FileUtils.writeByteArrayToFile(file, encoder.encode(pngImage))).getPath();
+	}
 
-		// set back to the original position
-		js.executeScript(
-				"window.scrollTo(" + currentXPosition + "," + currentYPosition + ");");
-		return capturedAllChunks;
+	/**
+	 * Saves the screenshot to the screenshots folder, in the background when the
+	 * async screenshots are enabled otherwise right away.
+	 *
+	 * @param outputPNGFileName output .png image file name, date time stamp will
+	 *                          be prepended and the extension is changed as per
+	 *                          the screenshot encoder
+	 * @param writeTask         writes the screenshot to the file
+	 * @return the screenshot handle
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private ScreenShotWriter.ScreenShotHandle saveScreenShot(String outputPNGFileName,
+															 ScreenShotWriter.WriteTask writeTask) throws IOException {
+		String screenShotPath = this.screenShotsPath + File.separatorChar + getScreenShotTime() + "_"
+				+ outputPNGFileName.replaceAll("\\.png$", "") + this.screenShotEncoder.getExtension();
+		if (!this.asyncScreenShots) {
+			writeTask.write(new File(screenShotPath));
+			return ScreenShotWriter.ScreenShotHandle.written(screenShotPath);
+		}
+		return this.screenShotWriter.write(screenShotPath, writeTask);
 	}
 
 	/**
@@ -3205,52 +5539,12 @@ public class CommonFunctions {
 		File[] imagesList = folder.listFiles();
 		// sort the images based on created time stamp
 		Arrays.sort(imagesList, Comparator.comparingLong(File::lastModified));
-		// get the first image (need this to get the width and height of each image)
-		BufferedImage firstImage = ImageIO.read(imagesList[0]);
-		// get image width
-		int imageWidth = firstImage.getWidth();
-		// get image height (need this to build the BufferedImage)
-		int imageHeight = firstImage.getHeight();
-		// get the final Buffer Image height
-		// bufferedImageHeight = ((Number Of Images-1) * Image Height)+ LastImageHeight
-
-		// get last image to get it's height
-		int bufferedImageHeight;
-		if (imagesList.length > 0) {
-			BufferedImage lastImage = ImageIO.read(imagesList[imagesList.length - 1]);
-			bufferedImageHeight = ((imagesList.length - 1) * (imageHeight - 5)) + lastImage.getHeight();
-		} else {
-			bufferedImageHeight = firstImage.getHeight();
-		}
-
-		// create Buffered Image
-
-		BufferedImage finalBufferedImage = new BufferedImage(imageWidth - 30, bufferedImageHeight,
-				BufferedImage.TYPE_INT_RGB);
-		Graphics graphics = finalBufferedImage.getGraphics();
-		// X axis where the image should be incorporated
-		int imageXOffset = 0;
-		// Y axis where the image should be incorporated (this will get updated after
-		// each image added to the Buffered Image.
-		int imageYOffset = 0;
-		// loop through all images and append them to buffered image
+		// decode each image only once
+		List<BufferedImage> images = new ArrayList<>();
 		for (File image : imagesList) {
-			// read image into the temporary Buffered Image
-			BufferedImage bufferedImage = ImageIO.read(image);
-
-			// add the image to the final Buffered Image graphics
-			graphics.drawImage(
-					bufferedImage.getSubimage(0, 0, bufferedImage.getWidth() - 30, bufferedImage.getHeight()),
-					imageXOffset, imageYOffset, null);
-			// update Y axis value (so that the next image will be added at the end)
-			// moving the next image 10 pixels up to make sure the images does not show
-			// any gap
-			imageYOffset += bufferedImage.getHeight() - 5;
+			images.add(ImageIO.read(image));
 		}
-		String failedScreenShotPath = this.screenShotsPath + File.separatorChar + getScreenShotTime() + "_"
-				+ outputPNGFileName;
-		// Save the the final Buffered Image build with graphics to output file
-		ImageIO.write(finalBufferedImage, "png", new File(failedScreenShotPath));
+		String failedScreenShotPath = writeScreenShot(stitchImages(images), outputPNGFileName);
 		folderFileUtil.deleteFolder(folder);
 		return failedScreenShotPath;
 
@@ -3304,11 +5598,17 @@ public class CommonFunctions {
 			}
 			
 			driver.get("chrome://settings/clearBrowserData");
-			Thread.sleep(2000);
-			
-			WebElement clearDataBtn =  (WebElement) js.executeScript("return document.querySelector(\"body > settings-ui\").shadowRoot.querySelector(\"div#container > #main\").shadowRoot.querySelector(\".cr-centered-card-container\").shadowRoot.querySelector(\"[page-title='Privacy and security'] settings-privacy-page\").shadowRoot.querySelector(\"settings-clear-browsing-data-dialog\").shadowRoot.querySelector(\"#clearBrowsingDataDialog #clearBrowsingDataConfirm\")");
+			long waitStartTime = System.currentTimeMillis();
+			// wait for the clear browsing data dialog to be loaded
+			WebElement clearDataBtn = webDriverWait(driver, CommonVariables.MED_TIMEOUT).until(ExpectedConditions
+					.elementToBeClickable(ByShadow.path("body > settings-ui", "div#container > #main",
+							".cr-centered-card-container", "[page-title='Privacy and security'] settings-privacy-page",
+							"settings-clear-browsing-data-dialog", "#clearBrowsingDataDialog #clearBrowsingDataConfirm")));
+			recordSavedSleep(2000, waitStartTime);
 			
 			js.executeScript("arguments[0].click();", clearDataBtn);
+			// dialog is closed once the data is cleared
+			webDriverWait(driver, CommonVariables.MED_TIMEOUT).until(ExpectedConditions.invisibilityOf(clearDataBtn));
 			
 			driver.close();
 			driver.switchTo().window(mainWindow);
@@ -3340,13 +5640,19 @@ public class CommonFunctions {
 			}
 			
 			driver.get("chrome://settings/content/all");
-			Thread.sleep(2000);
 			
-			ArrayList<WebElement> siteEntryElements = (ArrayList<WebElement>)js .executeScript("return document.querySelector('body > settings-ui').shadowRoot.querySelector(\"div#container > #main\").shadowRoot.querySelector(\".cr-centered-card-container\").shadowRoot.querySelector(\"[page-title='Privacy and security'] settings-privacy-page\").shadowRoot.querySelector(\"[section='privacy'] [page-title='All sites'] all-sites\").shadowRoot.querySelectorAll(\"#allSitesList > .no-outline\")");
+			ByShadow allSitesPage = ByShadow.path("body > settings-ui", "div#container > #main",
+					".cr-centered-card-container", "[page-title='Privacy and security'] settings-privacy-page",
+					"[section='privacy'] [page-title='All sites'] all-sites");
+			long waitStartTime = System.currentTimeMillis();
+			// wait for the site list to be loaded (there might not be any site data)
+			List<WebElement> siteEntryElements = getElements(driver, allSitesPage.inShadowRoot("#allSitesList > .no-outline"),
+					CommonVariables.MIN_TIMEOUT);
+			recordSavedSleep(2000, waitStartTime);
 			
 			for(WebElement currentSiteEntryElement : siteEntryElements){
 				
-				WebElement currentExpandIconElement = (WebElement) js.executeScript("return arguments[0].shadowRoot.querySelector(\"#toggleButton > #expandIcon\")", currentSiteEntryElement);
+				WebElement currentExpandIconElement = currentSiteEntryElement.findElement(ByShadow.path("#toggleButton > #expandIcon"));
 				
 				String expandIconSiteName = (String) js.executeScript("return arguments[0].getAttribute('aria-label');", currentExpandIconElement);
 				
@@ -3358,7 +5664,7 @@ public class CommonFunctions {
 				
 				if(isSiteNameMatched && expandIconSiteNameHiddenStatus != null){
 					
-					WebElement siteDeleteButton = (WebElement) js.executeScript("return arguments[0].shadowRoot.querySelector(\"#removeSiteButton\")", currentSiteEntryElement);
+					WebElement siteDeleteButton = currentSiteEntryElement.findElement(ByShadow.path("#removeSiteButton"));
 					
 					js.executeScript("arguments[0].click();", siteDeleteButton);
 					
@@ -3367,11 +5673,11 @@ public class CommonFunctions {
 				} else if (isSiteNameMatched) {
 					
 					
-					WebElement expandIconElement = (WebElement) js.executeScript("return arguments[0].shadowRoot.querySelector(\"#toggleButton > #expandIcon [aria-label='" + domainName + "']\")", currentSiteEntryElement);
+					WebElement expandIconElement = currentSiteEntryElement.findElement(ByShadow.path("#toggleButton > #expandIcon [aria-label='" + domainName + "']"));
 					
 					js.executeScript("arguments[0].click();", expandIconElement);
 					
-					WebElement subSiteDeleteButton = (WebElement) js.executeScript("return arguments[0].shadowRoot.querySelector(\"#collapseChild > .list-frame > .row-aligned > [data-origin='" + siteName + "'\")", currentSiteEntryElement);
+					WebElement subSiteDeleteButton = currentSiteEntryElement.findElement(ByShadow.path("#collapseChild > .list-frame > .row-aligned > [data-origin='" + siteName + "']"));
 					
 					js.executeScript("arguments[0].click();", subSiteDeleteButton);
 					
@@ -3379,11 +5685,13 @@ public class CommonFunctions {
 					
 				}
 				
-				Thread.sleep(2000);
-				
-				WebElement deleteConfirmationButton = (WebElement) js.executeScript("return document.querySelector('body > settings-ui').shadowRoot.querySelector(\"div#container > #main\").shadowRoot.querySelector(\".cr-centered-card-container\").shadowRoot.querySelector(\"[page-title='Privacy and security'] settings-privacy-page\").shadowRoot.querySelector(\"[section='privacy'] [page-title='All sites'] all-sites\").shadowRoot.querySelector(\"[close-text='Close'] .action-button\")");
-				
 				if(isClickedOnSiteDataRemoveButton) {
+					waitStartTime = System.currentTimeMillis();
+					// wait for the delete confirmation dialog
+					WebElement deleteConfirmationButton = webDriverWait(driver, CommonVariables.MED_TIMEOUT)
+							.until(ExpectedConditions.elementToBeClickable(
+									allSitesPage.inShadowRoot("[close-text='Close'] .action-button")));
+					recordSavedSleep(2000, waitStartTime);
 					js.executeScript("arguments[0].click();", deleteConfirmationButton);
 					
 					System.out.println(((siteName != null && !siteName.isEmpty()) ? "'" + siteName + "' Site under the " : "") + "'" + domainName + "' Domain data is deleted!!");
@@ -98,6 +98,68 @@ public class CommonVariables {
      */
     public static final int NO_TIMEOUT = 0;
 
+    /**
+     * The number of table rows read per script execution while extracting the
+     * table data, this keeps the size of each response bounded for the large
+     * tables.
+     */
+    public static int TABLE_PAGE_SIZE = 500;
+
+    /**
+     * The file where the wait statistics of the locators are stored, see
+     * {@link framework.helper.WaitProfiler WaitProfiler}.
+     */
+    public static String WAIT_STATS_FILE_PATH = PROJECT_FOLDER_PATH + File.separatorChar + "waitStats.json";
+
+    /**
+     * The time in milliseconds without any new network request, after which the
+     * page is considered as network idle while waiting for the page to be ready.
+     */
+    public static int PAGE_NETWORK_IDLE_TIME = 500;
+
+    /**
+     * The time in milliseconds to wait before checking the page ready again, when
+     * the page navigated while it was checked.
+     */
+    public static long PAGE_READY_POLLING_TIME = 50;
+
+    /**
+     * The max time in milliseconds the SPA sync mode waits for the SPA framework
+     * to be idle before each element wait, kept short as some apps (eg: Angular
+     * with a polling timer) never become stable.
+     */
+    public static long SPA_SYNC_TIMEOUT = 2000;
+
+    /**
+     * The folder where the step timings are written per test, see
+     * {@link framework.helper.StepMetrics StepMetrics}.
+     */
+    public static String STEP_METRICS_FOLDER_PATH = PROJECT_FOLDER_PATH + File.separatorChar + "Output"
+            + File.separatorChar + "StepMetrics";
+
+    /**
+     * The number of threads writing the screenshots in the background, see
+     * {@link framework.helper.ScreenShotWriter ScreenShotWriter}. Threads are
+     * shared by all the tests, it is read when the first screenshot is written.
+     */
+    public static int SCREENSHOT_WRITER_THREADS = 2;
+
+    /**
+     * The maximum number of the screenshots waiting to be written in the
+     * background, screenshot is written on the test thread itself when the
+     * queue is full.
+     */
+    public static int SCREENSHOT_WRITER_QUEUE_SIZE = 16;
+
+    /**
+     * The maximum number of the perceptual hash bits (out of 256) in which a
+     * screenshot can differ from the previous one to be considered as the same,
+     * see {@link framework.helper.PerceptualHash PerceptualHash}. Default 0
+     * reuses only the screenshots with the same hash, increase it to reuse the
+     * screenshots with the small differences as well.
+     */
+    public static int SCREENSHOT_DEDUP_THRESHOLD = 0;
+
     /**
      * List of available time formats.
      * <table border=1>
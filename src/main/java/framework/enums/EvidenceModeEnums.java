@@ -0,0 +1,26 @@
+package framework.enums;
+
+/**
+ * The Enum EvidenceModeEnums, decides when the element has to be highlighted as
+ * part of the element actions.
+ */
+public enum EvidenceModeEnums {
+
+	/**
+	 * Highlight the element on every action, even when the screenshot is not
+	 * captured
+	 */
+	ALWAYS_HIGHLIGHT,
+
+	/**
+	 * Highlight the element only when the screenshot is captured
+	 */
+	HIGHLIGHT_ON_CAPTURE,
+
+	/**
+	 * Never highlight the element, screenshots will be captured without the
+	 * highlight
+	 */
+	NO_HIGHLIGHT
+
+}
@@ -0,0 +1,19 @@
+package framework.enums;
+
+/**
+ * The Enum ImageFormatEnums, the formats in which the screenshots can be
+ * written.
+ */
+public enum ImageFormatEnums {
+
+	/**
+	 * Lossless PNG (default)
+	 */
+	PNG,
+
+	/**
+	 * Lossy JPEG with the configurable quality
+	 */
+	JPEG
+
+}
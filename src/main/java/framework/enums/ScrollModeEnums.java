@@ -0,0 +1,25 @@
+package framework.enums;
+
+/**
+ * The Enum ScrollModeEnums, decides how the element has to be scrolled to the
+ * center after waiting for the element.
+ */
+public enum ScrollModeEnums {
+
+	/**
+	 * Always scroll the element to the center
+	 */
+	ALWAYS,
+
+	/**
+	 * Scroll the element to the center only when it is not completely with in the
+	 * viewport
+	 */
+	IF_NEEDED,
+
+	/**
+	 * Never scroll the element
+	 */
+	NEVER
+
+}
@@ -0,0 +1,30 @@
+package framework.enums;
+
+/**
+ * The Enum StepPhaseEnums, the phases in which the time of a step (public
+ * action of {@link framework.commonfunctions.CommonFunctions CommonFunctions})
+ * is spent.
+ */
+public enum StepPhaseEnums {
+
+	/**
+	 * Waiting for the element, page or the condition
+	 */
+	WAIT,
+
+	/**
+	 * WebDriver commands, i.e. the time of the step not spent in the other phases
+	 */
+	WEBDRIVER,
+
+	/**
+	 * Capturing the screenshots
+	 */
+	SCREENSHOT,
+
+	/**
+	 * Highlighting the elements using the JavaScript
+	 */
+	HIGHLIGHT
+
+}
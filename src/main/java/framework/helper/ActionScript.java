@@ -0,0 +1,156 @@
+package framework.helper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.By;
+
+/**
+ * Sequence of element actions (click/input value) to be performed together
+ * using
+ * {@link framework.commonfunctions.CommonFunctions#performActions(org.openqa.selenium.WebDriver, ActionScript, boolean, String, int)
+ * performActions}.<br>
+ * <br>
+ * The wait, scroll and the action of all the steps are compiled into a single
+ * injected script, the steps which are not safe to be done with JavaScript
+ * (file inputs, content editable elements, non input fields and the steps
+ * added as native) are handed back and performed with the native WebDriver
+ * events.<br>
+ * <br>
+ * Example:
+ *
+ * <pre>
+ * commonFunctions.performActions(driver, new ActionScript()
+ * 		.inputValue(By.id("username"), "user")
+ * 		.inputValue(By.id("password"), "password")
+ * 		.click(By.id("login")), true, "login", CommonVariables.MED_TIMEOUT);
+ * </pre>
+ */
+public class ActionScript {
+
+	/**
+	 * The action performed by the step.
+	 */
+	public enum Action {
+		CLICK, INPUT
+	}
+
+	/**
+	 * A single step of the action script.
+	 */
+	public static final class Step {
+
+		private final Action action;
+		private final By byLocator;
+		private final String value;
+		private final boolean isNative;
+
+		private Step(Action action, By byLocator, String value, boolean isNative) {
+			this.action = action;
+			this.byLocator = byLocator;
+			this.value = value;
+			this.isNative = isNative;
+		}
+
+		/**
+		 * Gets the action.
+		 *
+		 * @return the action
+		 */
+		public Action getAction() {
+			return this.action;
+		}
+
+		/**
+		 * Gets the by locator.
+		 *
+		 * @return the by locator
+		 */
+		public By getByLocator() {
+			return this.byLocator;
+		}
+
+		/**
+		 * Gets the value to be set in the element (null for click).
+		 *
+		 * @return the value
+		 */
+		public String getValue() {
+			return this.value;
+		}
+
+		/**
+		 * Checks if the step has to be performed with the native WebDriver events.
+		 *
+		 * @return true, if native
+		 */
+		public boolean isNative() {
+			return this.isNative;
+		}
+
+		@Override
+		public String toString() {
+			return this.action + " " + this.byLocator;
+		}
+	}
+
+	private final List<Step> steps = new ArrayList<>();
+
+	/**
+	 * Click on element.
+	 *
+	 * @param byLocator the by locator
+	 * @return the action script
+	 */
+	public ActionScript click(By byLocator) {
+		this.steps.add(new Step(Action.CLICK, byLocator, null, false));
+		return this;
+	}
+
+	/**
+	 * Click on element with the native WebDriver click.
+	 *
+	 * @param byLocator the by locator
+	 * @return the action script
+	 */
+	public ActionScript nativeClick(By byLocator) {
+		this.steps.add(new Step(Action.CLICK, byLocator, null, true));
+		return this;
+	}
+
+	/**
+	 * Input value, existing value of the field will be replaced and the input and
+	 * change events will be fired.
+	 *
+	 * @param byLocator the by locator
+	 * @param value     the value to be set in the element
+	 * @return the action script
+	 */
+	public ActionScript inputValue(By byLocator, String value) {
+		this.steps.add(new Step(Action.INPUT, byLocator, value, false));
+		return this;
+	}
+
+	/**
+	 * Input value with the native WebDriver events (click, clear and send keys),
+	 * use this when the page depends on the key events.
+	 *
+	 * @param byLocator the by locator
+	 * @param value     the value to be set in the element
+	 * @return the action script
+	 */
+	public ActionScript nativeInputValue(By byLocator, String value) {
+		this.steps.add(new Step(Action.INPUT, byLocator, value, true));
+		return this;
+	}
+
+	/**
+	 * Gets the steps.
+	 *
+	 * @return the steps in the order they were added
+	 */
+	public List<Step> getSteps() {
+		return Collections.unmodifiableList(this.steps);
+	}
+}
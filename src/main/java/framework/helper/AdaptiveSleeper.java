@@ -0,0 +1,126 @@
+package framework.helper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.support.ui.Sleeper;
+
+/**
+ * {@link Sleeper} for the {@link org.openqa.selenium.support.ui.WebDriverWait
+ * WebDriverWait} which decides the polling interval based on the time already
+ * waited, rather the fixed polling interval.
+ * <ul>
+ * <li>polls every {@value #FAST_POLLING_MILLIS} ms during the fast polling
+ * window ({@value #FAST_POLLING_WINDOW_MILLIS} ms)</li>
+ * <li>backs off exponentially after that, till
+ * {@value #MAX_POLLING_MILLIS} ms between the polls</li>
+ * </ul>
+ * No interval goes past the timeout of the wait, so the wait ends with in its
+ * configured timeout.
+ * When the sleeper is created with a timing key (eg: locator and expected
+ * condition), time taken by the earlier waits of the same key is learned and
+ * the fast polling window is moved to the time when the condition is usually
+ * met.
+ */
+public class AdaptiveSleeper implements Sleeper {
+
+	/**
+	 * The polling interval with in the fast polling window.
+	 */
+	public static final long FAST_POLLING_MILLIS = 50;
+
+	/**
+	 * The duration of the fast polling window.
+	 */
+	public static final long FAST_POLLING_WINDOW_MILLIS = 300;
+
+	/**
+	 * The maximum polling interval.
+	 */
+	public static final long MAX_POLLING_MILLIS = 2000;
+
+	/**
+	 * The learned wait time (moving average in milliseconds) per timing key.
+	 */
+	private static final Map<String, Long> LEARNED_TIMINGS = new ConcurrentHashMap<>();
+
+	private final String timingKey;
+	private final long startTime;
+	private final long deadline;
+	private final long fastWindowStart;
+	private final long fastWindowEnd;
+	private long backoffInterval = FAST_POLLING_MILLIS;
+
+	/**
+	 * Instantiates a new adaptive sleeper, wait is considered to be started when
+	 * the sleeper is created.
+	 *
+	 * @param timingKey  the key to learn the wait time, null to not use the
+	 *                   learned timings
+	 * @param maxTimeout the max timeout of the wait in seconds
+	 */
+	public AdaptiveSleeper(String timingKey, int maxTimeout) {
+		this.timingKey = timingKey;
+		this.startTime = System.currentTimeMillis();
+		this.deadline = this.startTime + maxTimeout * 1000L;
+		long expectedTime = (timingKey == null) ? 0 : LEARNED_TIMINGS.getOrDefault(timingKey, 0L);
+		// start the fast polling a bit before the usual time, as the condition might be met early
+		this.fastWindowStart = expectedTime * 3 / 4;
+		this.fastWindowEnd = expectedTime + FAST_POLLING_WINDOW_MILLIS;
+	}
+
+	/**
+	 * Sleeps for the adaptive polling interval, the fixed polling interval of the
+	 * wait is not used.
+	 *
+	 * @param duration the fixed polling interval of the wait (ignored)
+	 * @throws InterruptedException the interrupted exception
+	 */
+	@Override
+	public void sleep(Duration duration) throws InterruptedException {
+		long currentTime = System.currentTimeMillis();
+		// sleep no longer than the time left for the wait
+		Thread.sleep(Math.max(0, Math.min(getNextInterval(currentTime - this.startTime), this.deadline - currentTime)));
+	}
+
+	/**
+	 * Gets the next polling interval.
+	 *
+	 * @param elapsedTime the time waited so far in milliseconds
+	 * @return the polling interval in milliseconds
+	 */
+	private long getNextInterval(long elapsedTime) {
+		if (elapsedTime < this.fastWindowStart) {
+			return Math.min(this.fastWindowStart - elapsedTime, MAX_POLLING_MILLIS);
+		}
+		if (elapsedTime < this.fastWindowEnd) {
+			return FAST_POLLING_MILLIS;
+		}
+		this.backoffInterval = Math.min(this.backoffInterval * 2, MAX_POLLING_MILLIS);
+		return this.backoffInterval;
+	}
+
+	/**
+	 * Records the time taken for the wait (from the creation of the sleeper), to
+	 * be used by the later waits of the same timing key. Should be called only
+	 * when the wait is successful.
+	 */
+	public void recordTiming() {
+		if (this.timingKey != null) {
+			long elapsedTime = System.currentTimeMillis() - this.startTime;
+			LEARNED_TIMINGS.merge(this.timingKey, elapsedTime, (learned, latest) -> (learned * 3 + latest) / 4);
+		}
+	}
+
+	/**
+	 * Gets the learned wait time.
+	 *
+	 * @param timingKey the timing key
+	 * @return the learned wait time in milliseconds, 0 if nothing is learned for
+	 * the key
+	 */
+	public static long getLearnedTiming(String timingKey) {
+		return LEARNED_TIMINGS.getOrDefault(timingKey, 0L);
+	}
+}
@@ -0,0 +1,171 @@
+package framework.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Frame qualified locator, i.e. the locators of the (nested) frames and the
+ * locator of the element with in the inner most frame. Driver is switched to
+ * the frame while locating the element, so it can be used with
+ * {@link framework.commonfunctions.CommonFunctions CommonFunctions} methods
+ * like any other {@link By}.<br>
+ * <font color="blue"><b>Note:</b> The driver stays in the frame after the
+ * element is located, as the element can be used only with in its frame.
+ * CommonFunctions switches back to the default content when a plain locator
+ * is used after that, when the driver is used directly switch it back with
+ * <i>driver.switchTo().defaultContent()</i>.</font><br>
+ * <br>
+ * Switching is done only when the current frame of the driver differs from
+ * the frame path of the locator
+ * <ul>
+ * <li>each frame entered is marked with its frame path, so the current frame
+ * is checked with a single script</li>
+ * <li>only the remaining frames are walked when the driver is already in one
+ * of the parent frames</li>
+ * <li>the frame elements are cached in the page holding the frame (so the
+ * cache is cleared along with the navigation) and located again only when they
+ * are detached</li>
+ * </ul>
+ * Eg: <i>ByFrame.of(By.id("save"), By.id("outerFrame"),
+ * By.cssSelector("iframe.editor"))</i>
+ */
+public class ByFrame extends By {
+
+	/**
+	 * Marks the current frame and returns the cached element of the next frame
+	 * (null if it is not cached or detached).
+	 */
+	private static final String ENTER_FRAME_SCRIPT = "if (arguments[0] !== null) { window.__fwFrameKey = arguments[0]; }"
+			+ "var frame = (window.__fwFrames || {})[arguments[1]];"
+			+ "return (frame && frame.isConnected) ? frame : null;";
+
+	private final List<By> framePath;
+	private final By byLocator;
+
+	private ByFrame(By byLocator, List<By> framePath) {
+		this.byLocator = byLocator;
+		this.framePath = framePath;
+	}
+
+	/**
+	 * Locates the element with in the frame.
+	 *
+	 * @param byLocator the by locator of the element
+	 * @param framePath the locators of the frames, outermost first
+	 * @return the by locator
+	 */
+	public static ByFrame of(By byLocator, By... framePath) {
+		return new ByFrame(byLocator, Arrays.asList(framePath));
+	}
+
+	/**
+	 * Gets the locators of the frames.
+	 *
+	 * @return the frame path, outermost first
+	 */
+	public List<By> getFramePath() {
+		return Collections.unmodifiableList(this.framePath);
+	}
+
+	/**
+	 * Gets the locator of the element with in the frame.
+	 *
+	 * @return the by locator
+	 */
+	public By getByLocator() {
+		return this.byLocator;
+	}
+
+	@Override
+	public WebElement findElement(SearchContext context) {
+		if (context instanceof WebDriver) {
+			switchToFrame((WebDriver) context, this.framePath);
+		}
+		return context.findElement(this.byLocator);
+	}
+
+	@Override
+	public List<WebElement> findElements(SearchContext context) {
+		// search with in an element is done in the frame of the element itself
+		if (context instanceof WebDriver) {
+			switchToFrame((WebDriver) context, this.framePath);
+		}
+		return context.findElements(this.byLocator);
+	}
+
+	/**
+	 * Switches the driver to the frame of the element, only when the driver is
+	 * not already in the frame.
+	 *
+	 * @param driver the {@link org.openqa.selenium.WebDriver WebDriver}
+	 */
+	public void switchToFrame(WebDriver driver) {
+		switchToFrame(driver, this.framePath);
+	}
+
+	/**
+	 * Switches the driver to the frame, only when the driver is not already in
+	 * the frame.
+	 *
+	 * @param driver    the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param framePath the locators of the frames, outermost first (empty for the
+	 *                  default content)
+	 */
+	public static void switchToFrame(WebDriver driver, List<By> framePath) {
+		List<String> frameKeys = new ArrayList<>();
+		for (By frameLocator : framePath) {
+			frameKeys.add((frameKeys.isEmpty() ? "" : frameKeys.get(frameKeys.size() - 1) + " >> ") + frameLocator);
+		}
+		String targetKey = frameKeys.isEmpty() ? "" : frameKeys.get(frameKeys.size() - 1);
+		String currentKey = (String) ((JavascriptExecutor) driver)
+				.executeScript("return window === window.top ? '' : (window.__fwFrameKey || null);");
+		if (Objects.equals(currentKey, targetKey)) {
+			return;
+		}
+
+		// walk only the remaining frames when the driver is in one of the parent frames
+		int startIndex = "".equals(currentKey) ? 0 : frameKeys.indexOf(currentKey) + 1;
+		if (startIndex == 0 && !"".equals(currentKey)) {
+			driver.switchTo().defaultContent();
+		}
+		if (startIndex >= framePath.size()) {
+			return;
+		}
+		WebElement frame = (WebElement) ((JavascriptExecutor) driver).executeScript(ENTER_FRAME_SCRIPT, null,
+				frameKeys.get(startIndex));
+		for (int index = startIndex; index < framePath.size(); index++) {
+			String frameKey = frameKeys.get(index);
+			try {
+				if (frame == null) {
+					throw new NoSuchFrameException("Frame is not resolved yet :- " + frameKey);
+				}
+				driver.switchTo().frame(frame);
+			} catch (StaleElementReferenceException | NoSuchFrameException frameException) {
+				frame = driver.findElement(framePath.get(index));
+				// cache the frame element in its parent page
+				((JavascriptExecutor) driver).executeScript(
+						"(window.__fwFrames = window.__fwFrames || {})[arguments[0]] = arguments[1];", frameKey, frame);
+				driver.switchTo().frame(frame);
+			}
+			// mark the frame, so that the current frame can be checked with a single script
+			frame = (WebElement) ((JavascriptExecutor) driver).executeScript(ENTER_FRAME_SCRIPT, frameKey,
+					(index + 1 < frameKeys.size()) ? frameKeys.get(index + 1) : null);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "By.frame: " + this.framePath + " >> " + this.byLocator;
+	}
+}
@@ -0,0 +1,167 @@
+package framework.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Locator which pierces the (nested) shadow roots, the complete lookup is done
+ * with a single script and can be used with
+ * {@link framework.commonfunctions.CommonFunctions#getElement(org.openqa.selenium.WebDriver, By)
+ * getElement}/
+ * {@link framework.commonfunctions.CommonFunctions#waitForElement(org.openqa.selenium.WebDriver, By, framework.enums.ExpectedConditionsEnums)
+ * waitForElement} like any other {@link By}.
+ * <ul>
+ * <li>{@link #path(String...)} - CSS selectors of the shadow hosts followed by
+ * the CSS selector of the element, each selector is searched in the shadow root
+ * of the previous host</li>
+ * <li>{@link #deep(String)} - CSS selector searched in the document and all the
+ * nested shadow roots</li>
+ * </ul>
+ * The shadow root in which the element was found is cached in the page (keyed
+ * by the locator), so that the later lookups of the same locator query the
+ * cached root directly. Cache is dropped along with the page on navigation and
+ * the complete walk is done again when the element is no more in the cached
+ * root.<br>
+ * <br>
+ * When the search context is an element, search starts from the shadow root of
+ * the element (if it is a shadow host) otherwise from the element.
+ */
+public class ByShadow extends By {
+
+	/**
+	 * The script to locate the elements, arguments are selectors, deep search,
+	 * first element only, search context element (null for document) and the
+	 * cache key.
+	 */
+	private static final String JS_SHADOW_LOCATOR = "var selectors = arguments[0], deep = arguments[1], first = arguments[2];"
+			+ "var context = arguments[3], key = arguments[4];"
+			+ "var cache = window.__fwShadowRoots || (window.__fwShadowRoots = {});"
+			+ "var selector = selectors[selectors.length - 1];"
+			+ "function deepSearch(root, results, roots) {"
+			+ " var found = root.querySelectorAll(selector);"
+			+ " if (found.length) { roots.push(root); Array.prototype.push.apply(results, found); if (first) { return; } }"
+			+ " var nodes = root.querySelectorAll('*');"
+			+ " for (var index = 0; index < nodes.length && !(first && results.length); index++) {"
+			+ "  if (nodes[index].shadowRoot) { deepSearch(nodes[index].shadowRoot, results, roots); }"
+			+ " }"
+			+ "}"
+			+ "function pathSearch(root, results, roots) {"
+			+ " for (var index = 0; index < selectors.length - 1 && root; index++) {"
+			+ "  var host = root.querySelector(selectors[index]);"
+			+ "  root = host ? host.shadowRoot : null;"
+			+ " }"
+			+ " if (root) {"
+			+ "  var found = root.querySelectorAll(selector);"
+			+ "  if (found.length) { roots.push(root); Array.prototype.push.apply(results, found); }"
+			+ " }"
+			+ "}"
+			+ "if (first && !context) {"
+			+ " var cached = cache[key];"
+			+ " if (cached && (!cached.host || cached.host.isConnected)) {"
+			+ "  var ele = cached.querySelector(selector);"
+			+ "  if (ele) { return [ele]; }"
+			+ " }"
+			+ "}"
+			+ "var results = [], roots = [];"
+			+ "var root = context ? (context.shadowRoot || context) : document;"
+			+ "if (deep) { deepSearch(root, results, roots); } else { pathSearch(root, results, roots); }"
+			+ "if (!context && roots.length) { cache[key] = roots[0]; }"
+			+ "return first ? results.slice(0, 1) : results;";
+
+	private final List<String> cssSelectors;
+	private final boolean isDeep;
+
+	private ByShadow(List<String> cssSelectors, boolean isDeep) {
+		if (cssSelectors.isEmpty() || cssSelectors.contains(null)) {
+			throw new IllegalArgumentException("Cannot find elements when the selector is null");
+		}
+		if (isDeep && cssSelectors.size() > 1) {
+			throw new IllegalArgumentException("Shadow root can be chained only with the path locator");
+		}
+		this.cssSelectors = cssSelectors;
+		this.isDeep = isDeep;
+	}
+
+	/**
+	 * Locates the element using the CSS selectors of the shadow hosts and the
+	 * element.<br>
+	 * Eg: <i>ByShadow.path("downloads-manager", "#downloadsList downloads-item",
+	 * "div#content #file-link")</i>
+	 *
+	 * @param cssSelectors the CSS selectors of the shadow hosts (outermost first)
+	 *                     followed by the CSS selector of the element
+	 * @return the by locator
+	 */
+	public static ByShadow path(String... cssSelectors) {
+		return new ByShadow(Arrays.asList(cssSelectors), false);
+	}
+
+	/**
+	 * Locates the element using the CSS selector in the document and all the
+	 * nested shadow roots.
+	 *
+	 * @param cssSelector the CSS selector of the element
+	 * @return the by locator
+	 */
+	public static ByShadow deep(String cssSelector) {
+		return new ByShadow(Arrays.asList(cssSelector), true);
+	}
+
+	/**
+	 * Locates the element with in the shadow root of the element located by this
+	 * locator.
+	 *
+	 * @param cssSelector the CSS selector of the element with in the shadow root
+	 * @return the by locator
+	 * @throws IllegalArgumentException if this is a {@link #deep(String) deep}
+	 *                                  locator
+	 */
+	public ByShadow inShadowRoot(String cssSelector) {
+		List<String> selectors = new ArrayList<>(this.cssSelectors);
+		selectors.add(cssSelector);
+		return new ByShadow(selectors, this.isDeep);
+	}
+
+	@Override
+	public WebElement findElement(SearchContext context) {
+		List<WebElement> elements = locate(context, true);
+		if (elements.isEmpty()) {
+			throw new NoSuchElementException("Cannot locate an element using " + this);
+		}
+		return elements.get(0);
+	}
+
+	@Override
+	public List<WebElement> findElements(SearchContext context) {
+		return locate(context, false);
+	}
+
+	/**
+	 * Locates the elements with a single script.
+	 *
+	 * @param context     the search context
+	 * @param isFirstOnly stop the search at the first element
+	 * @return the elements
+	 */
+	@SuppressWarnings("unchecked")
+	private List<WebElement> locate(SearchContext context, boolean isFirstOnly) {
+		// driver is used as the element search context can't execute the script
+		JavascriptExecutor js = (JavascriptExecutor) getWebDriver(context);
+		Object contextElement = (context instanceof WebElement) ? context : null;
+		return (List<WebElement>) js.executeScript(JS_SHADOW_LOCATOR, this.cssSelectors, this.isDeep, isFirstOnly,
+				contextElement, toString());
+	}
+
+	@Override
+	public String toString() {
+		return this.isDeep ? "By.shadowDeep: " + this.cssSelectors.get(0)
+				: "By.shadowPath: " + String.join(" >> ", this.cssSelectors);
+	}
+}
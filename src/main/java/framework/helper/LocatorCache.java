@@ -0,0 +1,110 @@
+package framework.helper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Holds the resolved {@link org.openqa.selenium.WebElement elements} keyed by
+ * the locator, so that the repeated interactions with the same locator can
+ * skip the element lookup. Each
+ * {@link framework.commonfunctions.CommonFunctions CommonFunctions} has its own
+ * cache, so the cached elements (and the driver they refer to) are released
+ * along with it.<br>
+ * <br>
+ * Elements are cached along with the page they were resolved in (the
+ * <i>performance.timeOrigin</i> of the document), so the element is used only
+ * while the same page is loaded, however the page is navigated (link click,
+ * form submit or the browser navigation). Individual entries are removed when
+ * the cached element is stale.
+ */
+public class LocatorCache {
+
+	/**
+	 * The cached element along with the driver and the page it was resolved in.
+	 */
+	public static class CachedElement {
+
+		private final WebDriver driver;
+		private final WebElement element;
+		private final Object pageToken;
+
+		private CachedElement(WebDriver driver, WebElement element, Object pageToken) {
+			this.driver = driver;
+			this.element = element;
+			this.pageToken = pageToken;
+		}
+
+		/**
+		 * Gets the cached element.
+		 *
+		 * @return the {@link org.openqa.selenium.WebElement element}
+		 */
+		public WebElement getElement() {
+			return this.element;
+		}
+
+		/**
+		 * Gets the token of the page the element was resolved in.
+		 *
+		 * @return the page token
+		 */
+		public Object getPageToken() {
+			return this.pageToken;
+		}
+	}
+
+	/**
+	 * JavaScript expression of the token of the current page, which changes on
+	 * every navigation.
+	 */
+	public static final String PAGE_TOKEN = "(performance.timeOrigin || performance.timing.navigationStart)";
+
+	private final Map<By, CachedElement> cachedElements = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the cached element.
+	 *
+	 * @param driver    the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocator the by locator
+	 * @return the cached element, null if the locator is not resolved yet with the
+	 *         driver
+	 */
+	public CachedElement get(WebDriver driver, By byLocator) {
+		CachedElement cachedElement = this.cachedElements.get(byLocator);
+		return (cachedElement == null || cachedElement.driver != driver) ? null : cachedElement;
+	}
+
+	/**
+	 * Caches the resolved element.
+	 *
+	 * @param driver    the {@link org.openqa.selenium.WebDriver WebDriver}
+	 * @param byLocator the by locator
+	 * @param element   the resolved {@link org.openqa.selenium.WebElement element}
+	 * @param pageToken the token of the page (see {@link #PAGE_TOKEN})
+	 */
+	public void put(WebDriver driver, By byLocator, WebElement element, Object pageToken) {
+		if (element != null && pageToken != null) {
+			this.cachedElements.put(byLocator, new CachedElement(driver, element, pageToken));
+		}
+	}
+
+	/**
+	 * Removes the cached element for the locator.
+	 *
+	 * @param byLocator the by locator
+	 */
+	public void invalidate(By byLocator) {
+		this.cachedElements.remove(byLocator);
+	}
+
+	/**
+	 * Removes all the cached elements.
+	 */
+	public void invalidate() {
+		this.cachedElements.clear();
+	}
+}
@@ -0,0 +1,120 @@
+package framework.helper;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Difference hash (dHash) of the screenshot, used to find the screenshots
+ * which look the same as the previous one.<br>
+ * <br>
+ * Screenshot is divided in to {@value #GRID_SIZE} + 1 x {@value #GRID_SIZE}
+ * cells of average brightness and each bit of the hash tells if the cell is brighter
+ * than its right neighbour, so the hash does not change for the small
+ * rendering differences (anti-aliasing, compression) but changes when the
+ * content of the page changes. Screenshots of the different size never match.
+ */
+public final class PerceptualHash {
+
+	/**
+	 * The number of rows (and the comparisons per row) of the hash grid.
+	 */
+	public static final int GRID_SIZE = 16;
+
+	/**
+	 * The subsampling used while decoding the screenshot, the hash grid is much
+	 * smaller than the screenshot so every pixel is not needed.
+	 */
+	private static final int SUBSAMPLING = 4;
+
+	private final long[] hashBits = new long[GRID_SIZE * GRID_SIZE / Long.SIZE];
+	private final int width;
+	private final int height;
+
+	private PerceptualHash(BufferedImage image, int width, int height) {
+		this.width = width;
+		this.height = height;
+		// average brightness of each cell, every pixel counts unlike the interpolated scaling
+		double[][] grid = new double[GRID_SIZE][GRID_SIZE + 1];
+		int[][] pixels = new int[GRID_SIZE][GRID_SIZE + 1];
+		for (int y = 0; y < image.getHeight(); y++) {
+			int row = y * GRID_SIZE / image.getHeight();
+			for (int x = 0; x < image.getWidth(); x++) {
+				int column = x * (GRID_SIZE + 1) / image.getWidth();
+				int rgb = image.getRGB(x, y);
+				grid[row][column] += 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+				pixels[row][column]++;
+			}
+		}
+		int bit = 0;
+		for (int row = 0; row < GRID_SIZE; row++) {
+			for (int column = 0; column < GRID_SIZE; column++, bit++) {
+				if (grid[row][column] / Math.max(1, pixels[row][column])
+						> grid[row][column + 1] / Math.max(1, pixels[row][column + 1])) {
+					this.hashBits[bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the hash of the image.
+	 *
+	 * @param image the image
+	 * @return the perceptual hash
+	 */
+	public static PerceptualHash of(BufferedImage image) {
+		return new PerceptualHash(image, image.getWidth(), image.getHeight());
+	}
+
+	/**
+	 * Gets the hash of the encoded (eg: PNG) screenshot, screenshot is decoded
+	 * with subsampling to keep it cheap.
+	 *
+	 * @param encodedImage the encoded image
+	 * @return the perceptual hash
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static PerceptualHash of(byte[] encodedImage) throws IOException {
+		try (ImageInputStream imageInputStream = ImageIO
+				.createImageInputStream(new ByteArrayInputStream(encodedImage))) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+			if (!readers.hasNext()) {
+				throw new IOException("Image format of the screenshot is not supported");
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(imageInputStream, true, true);
+				ImageReadParam readParam = reader.getDefaultReadParam();
+				readParam.setSourceSubsampling(SUBSAMPLING, SUBSAMPLING, 0, 0);
+				return new PerceptualHash(reader.read(0, readParam), reader.getWidth(0), reader.getHeight(0));
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of the hash bits differing from the other hash.
+	 *
+	 * @param other the other hash
+	 * @return the hamming distance, {@link Integer#MAX_VALUE} if the screenshots
+	 *         are of different size
+	 */
+	public int distance(PerceptualHash other) {
+		if (this.width != other.width || this.height != other.height) {
+			return Integer.MAX_VALUE;
+		}
+		int distance = 0;
+		for (int index = 0; index < this.hashBits.length; index++) {
+			distance += Long.bitCount(this.hashBits[index] ^ other.hashBits[index]);
+		}
+		return distance;
+	}
+}
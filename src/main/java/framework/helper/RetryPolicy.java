@@ -0,0 +1,194 @@
+package framework.helper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+/**
+ * Retry policy for the element actions of
+ * {@link framework.commonfunctions.CommonFunctions CommonFunctions} (click,
+ * input value and get text).<br>
+ * <br>
+ * Action is performed again (up to the max attempts) when it fails with one of
+ * the retryable exceptions, with an exponential backoff and random jitter
+ * between the attempts. Before each retry the caller gets the chance to
+ * prepare the retry (eg: re-resolve the element by locator, wait for the
+ * overlay).<br>
+ * <br>
+ * Each policy keeps the counters of the retries, recovered actions and the
+ * actions failed even after all the attempts.
+ */
+public class RetryPolicy {
+
+	/**
+	 * Action to be performed with the retry policy.
+	 *
+	 * @param <T> the result type
+	 */
+	@FunctionalInterface
+	public interface RetryableAction<T> {
+
+		/**
+		 * Performs the action.
+		 *
+		 * @return the result
+		 * @throws Exception the exception
+		 */
+		T perform() throws Exception;
+	}
+
+	/**
+	 * Policy without any retry, action is performed only once.
+	 */
+	public static final RetryPolicy NONE = new RetryPolicy("none", 1, 0);
+
+	private final String name;
+	private final int maxAttempts;
+	private final long backoffMillis;
+	private final List<Class<? extends Exception>> retryableExceptions;
+
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong recoveries = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+
+	/**
+	 * Instantiates a new retry policy, retries on
+	 * {@link StaleElementReferenceException} and
+	 * {@link ElementClickInterceptedException}.
+	 *
+	 * @param name          the policy name (used in the logs and the counters)
+	 * @param maxAttempts   the maximum number of attempts (including the first
+	 *                      one)
+	 * @param backoffMillis the backoff before the first retry in milliseconds,
+	 *                      doubled for each retry with random jitter
+	 */
+	public RetryPolicy(String name, int maxAttempts, long backoffMillis) {
+		this(name, maxAttempts, backoffMillis,
+				Arrays.asList(StaleElementReferenceException.class, ElementClickInterceptedException.class));
+	}
+
+	/**
+	 * Instantiates a new retry policy.
+	 *
+	 * @param name                the policy name (used in the logs and the
+	 *                            counters)
+	 * @param maxAttempts         the maximum number of attempts (including the
+	 *                            first one)
+	 * @param backoffMillis       the backoff before the first retry in
+	 *                            milliseconds, doubled for each retry with random
+	 *                            jitter
+	 * @param retryableExceptions the exceptions on which the action is retried
+	 */
+	public RetryPolicy(String name, int maxAttempts, long backoffMillis,
+					   List<Class<? extends Exception>> retryableExceptions) {
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException("Max attempts should be at least 1, but was " + maxAttempts);
+		}
+		this.name = name;
+		this.maxAttempts = maxAttempts;
+		this.backoffMillis = backoffMillis;
+		this.retryableExceptions = retryableExceptions;
+	}
+
+	/**
+	 * Performs the action with the retries.
+	 *
+	 * @param <T>          the result type
+	 * @param action       the action
+	 * @param prepareRetry called with the failure before each retry
+	 * @return the result of the action
+	 * @throws Exception the last failure when the action is not recovered
+	 */
+	public <T> T execute(RetryableAction<T> action, Consumer<Exception> prepareRetry) throws Exception {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				T result = action.perform();
+				if (attempt > 1) {
+					this.recoveries.incrementAndGet();
+				}
+				return result;
+			} catch (Exception exception) {
+				if (!isRetryable(exception)) {
+					throw exception;
+				}
+				if (attempt >= this.maxAttempts) {
+					if (this.maxAttempts > 1) {
+						this.failures.incrementAndGet();
+					}
+					throw exception;
+				}
+				this.retries.incrementAndGet();
+				prepareRetry.accept(exception);
+				Thread.sleep(getBackoff(attempt));
+			}
+		}
+	}
+
+	/**
+	 * Gets the backoff (full jitter) before the retry.
+	 *
+	 * @param attempt the failed attempt
+	 * @return the backoff in milliseconds
+	 */
+	private long getBackoff(int attempt) {
+		long maxBackoff = this.backoffMillis << Math.min(attempt - 1, 10);
+		return (maxBackoff <= 0) ? 0 : ThreadLocalRandom.current().nextLong(maxBackoff / 2, maxBackoff + 1);
+	}
+
+	/**
+	 * Checks if the action can be retried for the exception.
+	 *
+	 * @param exception the exception
+	 * @return true, if retryable
+	 */
+	private boolean isRetryable(Exception exception) {
+		return this.retryableExceptions.stream().anyMatch(retryable -> retryable.isInstance(exception));
+	}
+
+	/**
+	 * Gets the policy name.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Gets the number of retries done.
+	 *
+	 * @return the retries
+	 */
+	public long getRetries() {
+		return this.retries.get();
+	}
+
+	/**
+	 * Gets the number of actions which succeeded after the retry.
+	 *
+	 * @return the recoveries
+	 */
+	public long getRecoveries() {
+		return this.recoveries.get();
+	}
+
+	/**
+	 * Gets the number of actions which failed even after all the attempts.
+	 *
+	 * @return the failures
+	 */
+	public long getFailures() {
+		return this.failures.get();
+	}
+
+	@Override
+	public String toString() {
+		return "RetryPolicy " + this.name + " [retries=" + getRetries() + ", recoveries=" + getRecoveries()
+				+ ", failures=" + getFailures() + "]";
+	}
+}
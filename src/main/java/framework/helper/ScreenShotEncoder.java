@@ -0,0 +1,212 @@
+package framework.helper;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import framework.enums.ImageFormatEnums;
+
+/**
+ * Encodes the screenshots in the configured format before they are written,
+ * see {@link framework.commonfunctions.CommonFunctions#setScreenShotEncoder(ScreenShotEncoder)
+ * setScreenShotEncoder}.
+ * <ul>
+ * <li>format - PNG or JPEG with the quality</li>
+ * <li>scale - the screenshot is downscaled by the factor (eg: 0.5 for the half
+ * width and height)</li>
+ * <li>grayscale - the screenshot is converted to grayscale</li>
+ * <li>max bytes - the JPEG quality (down to 0.3) and then the scale (down to
+ * {@value #MIN_WIDTH} pixels width) are reduced step by step till the encoded
+ * screenshot fits in the budget, the smallest one is used otherwise</li>
+ * </ul>
+ * The PNG screenshot captured by the driver is written as it is with the
+ * {@link #PNG default} encoder, without decoding it.
+ */
+public class ScreenShotEncoder {
+
+	/**
+	 * Full resolution PNG, i.e. the screenshot as captured by the driver.
+	 */
+	public static final ScreenShotEncoder PNG = new ScreenShotEncoder(ImageFormatEnums.PNG, 1.0f, 1.0, false, 0);
+
+	/**
+	 * The lowest JPEG quality used to fit in the max bytes budget.
+	 */
+	private static final float MIN_QUALITY = 0.3f;
+
+	/**
+	 * The smallest width (in pixels) the screenshot is downscaled to, to fit in
+	 * the max bytes budget.
+	 */
+	private static final int MIN_WIDTH = 320;
+
+	private final ImageFormatEnums format;
+	private final float quality;
+	private final double scale;
+	private final boolean grayscale;
+	private final long maxBytes;
+
+	/**
+	 * Instantiates a new screenshot encoder.
+	 *
+	 * @param format    the image format
+	 * @param quality   the JPEG quality, from 0 to 1 (ignored for PNG)
+	 * @param scale     the scale factor, from 0 (exclusive) to 1
+	 * @param grayscale true, to convert the screenshot to grayscale
+	 * @param maxBytes  the max bytes of the encoded screenshot, 0 for no budget
+	 */
+	public ScreenShotEncoder(ImageFormatEnums format, float quality, double scale, boolean grayscale,
+							 long maxBytes) {
+		if (quality < 0 || quality > 1) {
+			throw new IllegalArgumentException("Quality should be between 0 and 1, but was " + quality);
+		}
+		if (scale <= 0 || scale > 1) {
+			throw new IllegalArgumentException("Scale should be greater than 0 and up to 1, but was " + scale);
+		}
+		this.format = format;
+		this.quality = quality;
+		this.scale = scale;
+		this.grayscale = grayscale;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Instantiates a new JPEG encoder.
+	 *
+	 * @param quality the JPEG quality, from 0 to 1
+	 * @return the screenshot encoder
+	 */
+	public static ScreenShotEncoder jpeg(float quality) {
+		return new ScreenShotEncoder(ImageFormatEnums.JPEG, quality, 1.0, false, 0);
+	}
+
+	/**
+	 * Gets the file extension of the format.
+	 *
+	 * @return the file extension including the dot
+	 */
+	public String getExtension() {
+		return (this.format == ImageFormatEnums.JPEG) ? ".jpg" : ".png";
+	}
+
+	/**
+	 * Encodes the PNG screenshot captured by the driver.
+	 *
+	 * @param pngImage the PNG image
+	 * @return the encoded screenshot, PNG image itself if nothing has to be
+	 *         changed
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public byte[] encode(byte[] pngImage) throws IOException {
+		if (isPassThrough() && (this.maxBytes <= 0 || pngImage.length <= this.maxBytes)) {
+			return pngImage;
+		}
+		return encode(ImageIO.read(new ByteArrayInputStream(pngImage)));
+	}
+
+	/**
+	 * Encodes the screenshot.
+	 *
+	 * @param image the screenshot image
+	 * @return the encoded screenshot
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public byte[] encode(BufferedImage image) throws IOException {
+		BufferedImage outputImage = convert(image, this.scale);
+		float outputQuality = this.quality;
+		byte[] encodedImage = write(outputImage, outputQuality);
+		// reduce the quality first and then the size, till the image fits in the budget
+		while (this.maxBytes > 0 && encodedImage.length > this.maxBytes) {
+			if (this.format == ImageFormatEnums.JPEG && outputQuality > MIN_QUALITY) {
+				outputQuality = Math.max(MIN_QUALITY, outputQuality - 0.1f);
+			} else if (outputImage.getWidth() * 3 / 4 >= MIN_WIDTH) {
+				outputImage = convert(outputImage, 0.75);
+			} else {
+				break;
+			}
+			encodedImage = write(outputImage, outputQuality);
+		}
+		return encodedImage;
+	}
+
+	/**
+	 * Checks if the screenshot is written as captured.
+	 *
+	 * @return true, if the screenshot is not changed by the encoder
+	 */
+	private boolean isPassThrough() {
+		return this.format == ImageFormatEnums.PNG && this.scale == 1.0 && !this.grayscale;
+	}
+
+	/**
+	 * Scales and converts the image to the color type of the output (grayscale
+	 * or RGB without the alpha, as JPEG does not support it).
+	 *
+	 * @param image       the image
+	 * @param scaleFactor the scale factor
+	 * @return the converted image
+	 */
+	private BufferedImage convert(BufferedImage image, double scaleFactor) {
+		int imageType = this.grayscale ? BufferedImage.TYPE_BYTE_GRAY
+				: (this.format == ImageFormatEnums.JPEG) ? BufferedImage.TYPE_INT_RGB : image.getType();
+		if (scaleFactor == 1.0 && image.getType() == imageType) {
+			return image;
+		}
+		int width = Math.max(1, (int) Math.round(image.getWidth() * scaleFactor));
+		int height = Math.max(1, (int) Math.round(image.getHeight() * scaleFactor));
+		BufferedImage convertedImage = new BufferedImage(width, height,
+				(imageType == BufferedImage.TYPE_CUSTOM) ? BufferedImage.TYPE_INT_ARGB : imageType);
+		Graphics2D graphics = convertedImage.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		graphics.drawImage(image, 0, 0, width, height, null);
+		graphics.dispose();
+		return convertedImage;
+	}
+
+	/**
+	 * Writes the image in the format.
+	 *
+	 * @param image         the image
+	 * @param outputQuality the JPEG quality
+	 * @return the encoded image
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private byte[] write(BufferedImage image, float outputQuality) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		if (this.format != ImageFormatEnums.JPEG) {
+			ImageIO.write(image, "png", outputStream);
+			return outputStream.toByteArray();
+		}
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+		if (!writers.hasNext()) {
+			throw new IOException("JPEG image writer is not available");
+		}
+		ImageWriter writer = writers.next();
+		try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+			ImageWriteParam writeParam = writer.getDefaultWriteParam();
+			writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			writeParam.setCompressionQuality(outputQuality);
+			writer.setOutput(imageOutputStream);
+			writer.write(null, new IIOImage(image, null, null), writeParam);
+		} finally {
+			writer.dispose();
+		}
+		return outputStream.toByteArray();
+	}
+
+	@Override
+	public String toString() {
+		return "ScreenShotEncoder [format=" + this.format + ", quality=" + this.quality + ", scale=" + this.scale
+				+ ", grayscale=" + this.grayscale + ", maxBytes=" + this.maxBytes + "]";
+	}
+}
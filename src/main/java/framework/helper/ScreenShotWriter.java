@@ -0,0 +1,213 @@
+package framework.helper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import framework.constants.CommonVariables;
+
+/**
+ * Writes the screenshots in the background, so that the test thread only
+ * captures the screenshot and continues with the test while the screenshot is
+ * encoded and written to the file.<br>
+ * <br>
+ * The writes are queued in a bounded queue, when the queue is full the write
+ * is done on the calling thread itself (back-pressure), so the memory held by
+ * the pending screenshots stays bounded. Use {@link #flush()} before the
+ * screenshots are read (eg: attached to the report) and at the end of the
+ * test, pending writes are completed when the JVM exits as well.<br>
+ * <br>
+ * All the writers share a single pool of
+ * {@link CommonVariables#SCREENSHOT_WRITER_THREADS SCREENSHOT_WRITER_THREADS}
+ * threads (created on the first write), each writer only tracks its own
+ * pending screenshots.
+ */
+public class ScreenShotWriter {
+
+	/**
+	 * Writes the screenshot to the file.
+	 */
+	@FunctionalInterface
+	public interface WriteTask {
+
+		/**
+		 * Writes the screenshot.
+		 *
+		 * @param file the screenshot file
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		void write(File file) throws IOException;
+	}
+
+	/**
+	 * Handle of the screenshot, the path is known right away and the file is
+	 * available once the write is completed.
+	 */
+	public static class ScreenShotHandle {
+
+		private final String path;
+		private Future<?> future;
+
+		private ScreenShotHandle(String path) {
+			this.path = path;
+		}
+
+		/**
+		 * Gets the handle of the screenshot which is already written.
+		 *
+		 * @param path the screenshot path
+		 * @return the screenshot handle
+		 */
+		public static ScreenShotHandle written(String path) {
+			FutureTask<Void> future = new FutureTask<>(() -> null);
+			future.run();
+			ScreenShotHandle handle = new ScreenShotHandle(path);
+			handle.future = future;
+			return handle;
+		}
+
+		/**
+		 * Gets the screenshot path, the file may not be written yet.
+		 *
+		 * @return the screenshot path
+		 */
+		public String getPath() {
+			return this.path;
+		}
+
+		/**
+		 * Checks if the write is completed.
+		 *
+		 * @return true, if the write is completed (successfully or not)
+		 */
+		public boolean isWritten() {
+			return this.future.isDone();
+		}
+
+		/**
+		 * Waits for the screenshot to be written.
+		 *
+		 * @return the screenshot path
+		 * @throws IOException Signals that the screenshot could not be written.
+		 */
+		public String await() throws IOException {
+			try {
+				this.future.get();
+				return this.path;
+			} catch (ExecutionException executionException) {
+				Throwable cause = executionException.getCause();
+				throw (cause instanceof IOException) ? (IOException) cause
+						: new IOException("Unable to write the screenshot :- " + this.path, cause);
+			} catch (CancellationException cancellationException) {
+				throw new IOException("Screenshot write is cancelled :- " + this.path, cancellationException);
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while writing the screenshot :- " + this.path,
+						interruptedException);
+			}
+		}
+	}
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private static ThreadPoolExecutor executor;
+
+	/**
+	 * The screenshots not written yet and the failed ones (till the flush).
+	 */
+	private final Set<ScreenShotHandle> pendingWrites = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Gets the shared executor, created on the first use along with the shutdown
+	 * hook completing the pending writes.
+	 *
+	 * @return the executor
+	 */
+	private static synchronized ThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			int threads = CommonVariables.SCREENSHOT_WRITER_THREADS;
+			executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+					new ArrayBlockingQueue<>(CommonVariables.SCREENSHOT_WRITER_QUEUE_SIZE), runnable -> {
+						Thread thread = new Thread(runnable, "screenshot-writer-" + THREAD_COUNT.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					}, new ThreadPoolExecutor.CallerRunsPolicy());
+			executor.allowCoreThreadTimeOut(true);
+			ThreadPoolExecutor sharedExecutor = executor;
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				sharedExecutor.shutdown();
+				try {
+					sharedExecutor.awaitTermination(1, TimeUnit.MINUTES);
+				} catch (InterruptedException interruptedException) {
+					// nothing can be done while the JVM is exiting
+				}
+			}));
+		}
+		return executor;
+	}
+
+	/**
+	 * Queues the screenshot to be written.
+	 *
+	 * @param path      the screenshot path
+	 * @param writeTask the write task
+	 * @return the screenshot handle
+	 */
+	public ScreenShotHandle write(String path, WriteTask writeTask) {
+		ScreenShotHandle handle = new ScreenShotHandle(path);
+		FutureTask<Void> future = new FutureTask<>(() -> {
+			writeTask.write(new File(path));
+			// failed writes are kept, so that the flush reports them
+			this.pendingWrites.remove(handle);
+			return null;
+		});
+		handle.future = future;
+		this.pendingWrites.add(handle);
+		// runs on the calling thread when the queue is full
+		getExecutor().execute(future);
+		return handle;
+	}
+
+	/**
+	 * Waits for all the pending screenshots to be written.
+	 *
+	 * @throws IOException Signals that one of the screenshots could not be
+	 *                     written, all the pending writes are waited even then.
+	 */
+	public void flush() throws IOException {
+		IOException writeException = null;
+		for (ScreenShotHandle handle : this.pendingWrites) {
+			try {
+				handle.await();
+			} catch (IOException ioException) {
+				if (writeException == null) {
+					writeException = ioException;
+				} else {
+					writeException.addSuppressed(ioException);
+				}
+			}
+			this.pendingWrites.remove(handle);
+		}
+		if (writeException != null) {
+			throw writeException;
+		}
+	}
+
+	/**
+	 * Gets the number of the screenshots not written yet.
+	 *
+	 * @return the pending writes
+	 */
+	public int getPendingWrites() {
+		return (int) this.pendingWrites.stream().filter(handle -> !handle.isWritten()).count();
+	}
+}
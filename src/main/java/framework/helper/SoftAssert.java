@@ -81,6 +81,12 @@ public class SoftAssert extends org.testng.asserts.SoftAssert {
 	 */
 	@Override
 	public void assertAll() {
+		// screenshots written in the background are completed before the test ends
+		try {
+			fwBaseClass.getCommonFunctions().flushScreenShots();
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
 		if (!m_errors.isEmpty()) {
 			StringBuilder sb = new StringBuilder("The following asserts failed:");
 			boolean first = true;
@@ -124,7 +130,9 @@ public class SoftAssert extends org.testng.asserts.SoftAssert {
 		if(CommonVariables.captureFullPageOnSoftAssert){
 			screenshotPath = fwBaseClass.getCommonFunctions().captureFullPageScreenShot(driver, "_sa_failed");
 		}else{
-			screenshotPath = fwBaseClass.getCommonFunctions().captureScreenShot(driver, "_sa_failed");
+			// failure screenshot is always written, rather reusing an earlier step's screenshot
+			screenshotPath = fwBaseClass.getCommonFunctions().captureScreenShotAsync(driver, "_sa_failed", false)
+					.getPath();
 		}
 
 //		File screenshot = null;
@@ -135,7 +143,8 @@ public class SoftAssert extends org.testng.asserts.SoftAssert {
 
 		// this will mark the sub-step status to fail(red arrow)/passed(green arrow)
 		Allure.getLifecycle().updateStep(stepResult -> stepResult.setStatus(status));
-		// attaches the screenshot to the sub-step
+		// attaches the screenshot to the sub-step (once it is written)
+		fwBaseClass.getCommonFunctions().flushScreenShots();
 		Path content = Paths.get(screenshotPath);
 		InputStream is = Files.newInputStream(content);
 		Allure.addAttachment("Screenshot", is);
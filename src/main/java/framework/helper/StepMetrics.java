@@ -0,0 +1,385 @@
+package framework.helper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.WebElement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import framework.constants.CommonVariables;
+import framework.enums.StepPhaseEnums;
+
+/**
+ * Registry of the step timings, a step is a public action of
+ * {@link framework.commonfunctions.CommonFunctions CommonFunctions} and its
+ * time is split in to the {@link StepPhaseEnums phases} (wait, WebDriver
+ * commands, screenshots and highlight). Actions called with in another action
+ * are part of the outer step, and the time of a phase started with in another
+ * phase is counted only for the inner phase.<br>
+ * <br>
+ * The timings are kept as
+ * <ul>
+ * <li>histograms per action type and phase (see
+ * {@link #getActionHistograms()})</li>
+ * <li>histograms per locator (see {@link #getLocatorHistograms()}), for max
+ * of {@value #MAX_LOCATORS} locators</li>
+ * <li>steps of the current test of the thread, written to
+ * {@link CommonVariables#STEP_METRICS_FOLDER_PATH STEP_METRICS_FOLDER_PATH} as
+ * JSON on {@link #endTest()}</li>
+ * </ul>
+ * Histograms are kept for the whole run, use {@link #reset()} to start them
+ * again (eg: per suite).
+ */
+public final class StepMetrics {
+
+	/**
+	 * The key of the total step time in the action histograms.
+	 */
+	public static final String TOTAL = "TOTAL";
+
+	/**
+	 * The maximum number of locators having their own histogram, steps of the
+	 * other locators are recorded under {@link #OTHER_LOCATORS}.
+	 */
+	public static final int MAX_LOCATORS = 1000;
+
+	/**
+	 * The key of the locator histogram holding the locators beyond
+	 * {@link #MAX_LOCATORS}.
+	 */
+	public static final String OTHER_LOCATORS = "OTHER";
+
+	/**
+	 * Timer of the step or the phase, stopped on close.
+	 */
+	@FunctionalInterface
+	public interface Timer extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+
+	/**
+	 * Timer which does not record anything, used when the metrics are disabled.
+	 */
+	public static final Timer NO_TIMER = () -> {
+	};
+
+	/**
+	 * Histogram of the times in milliseconds, with the power of two buckets.
+	 */
+	public static class Histogram {
+
+		/** The number of buckets, the last bucket holds all the bigger times. */
+		public static final int BUCKETS = 24;
+
+		/** The number of times recorded. */
+		public long count;
+
+		/** The total of the times in milliseconds. */
+		public long totalMillis;
+
+		/** The maximum time in milliseconds. */
+		public long maxMillis;
+
+		/** The counts per bucket, bucket i holds the times up to 2^i ms. */
+		public long[] buckets = new long[BUCKETS];
+
+		/**
+		 * Records the time.
+		 *
+		 * @param millis the time in milliseconds
+		 */
+		public synchronized void record(long millis) {
+			this.count++;
+			this.totalMillis += millis;
+			this.maxMillis = Math.max(this.maxMillis, millis);
+			int bucket = (millis <= 1) ? 0 : 64 - Long.numberOfLeadingZeros(millis - 1);
+			this.buckets[Math.min(bucket, BUCKETS - 1)]++;
+		}
+
+		/**
+		 * Gets the percentile (upper bound of the bucket).
+		 *
+		 * @param percentile the percentile, eg: 0.99
+		 * @return the time in milliseconds, 0 if nothing is recorded
+		 */
+		public synchronized long percentile(double percentile) {
+			long rank = (long) Math.ceil(this.count * percentile);
+			long cumulative = 0;
+			for (int bucket = 0; bucket < BUCKETS; bucket++) {
+				cumulative += this.buckets[bucket];
+				if (cumulative >= rank && cumulative > 0) {
+					return Math.min(1L << bucket, this.maxMillis);
+				}
+			}
+			return this.maxMillis;
+		}
+	}
+
+	/**
+	 * The timings of a step.
+	 */
+	public static class StepRecord {
+
+		/** The action (method name). */
+		public String action;
+
+		/** The locator of the element, null if the action is not on an element. */
+		public String locator;
+
+		/** The start time of the step (epoch milliseconds). */
+		public long startTime;
+
+		/** The total time of the step in milliseconds. */
+		public double totalMillis;
+
+		/** The time per phase in milliseconds. */
+		public Map<StepPhaseEnums, Double> phaseMillis = new EnumMap<>(StepPhaseEnums.class);
+	}
+
+	/**
+	 * The running phase of the current step.
+	 */
+	private static class PhaseFrame {
+
+		private final StepPhaseEnums phase;
+		private final long startNanos = System.nanoTime();
+		private long childNanos;
+
+		private PhaseFrame(StepPhaseEnums phase) {
+			this.phase = phase;
+		}
+	}
+
+	/**
+	 * The steps of the current test of the thread.
+	 */
+	private static class TestContext {
+
+		private String testName = "test";
+		private boolean started;
+		private final List<StepRecord> steps = new ArrayList<>();
+		private final Deque<PhaseFrame> phases = new ArrayDeque<>();
+		private final Map<StepPhaseEnums, Long> phaseNanos = new EnumMap<>(StepPhaseEnums.class);
+		private int depth;
+	}
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private static final ThreadLocal<TestContext> CONTEXT = ThreadLocal.withInitial(TestContext::new);
+
+	private static final Map<String, Map<String, Histogram>> ACTION_HISTOGRAMS = new ConcurrentHashMap<>();
+
+	private static final Map<String, Histogram> LOCATOR_HISTOGRAMS = new ConcurrentHashMap<>();
+
+	private StepMetrics() {
+	}
+
+	/**
+	 * Starts the test, the steps recorded in the thread after this are written
+	 * to the file of the test on {@link #endTest()}.
+	 *
+	 * @param testName the test name
+	 */
+	public static void startTest(String testName) {
+		CONTEXT.remove();
+		CONTEXT.get().testName = testName;
+		CONTEXT.get().started = true;
+	}
+
+	/**
+	 * Ends the test and writes its steps to
+	 * {@link CommonVariables#STEP_METRICS_FOLDER_PATH STEP_METRICS_FOLDER_PATH}.
+	 *
+	 * @return the path of the metrics file, null if there are no steps recorded
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static String endTest() throws IOException {
+		TestContext context = CONTEXT.get();
+		CONTEXT.remove();
+		if (context.steps.isEmpty()) {
+			return null;
+		}
+		Map<String, Map<String, Histogram>> actions = new TreeMap<>();
+		for (StepRecord step : context.steps) {
+			Map<String, Histogram> histograms = actions.computeIfAbsent(step.action, key -> new LinkedHashMap<>());
+			histograms.computeIfAbsent(TOTAL, key -> new Histogram()).record(Math.round(step.totalMillis));
+			step.phaseMillis.forEach((phase, millis) -> histograms.computeIfAbsent(phase.name(),
+					key -> new Histogram()).record(Math.round(millis)));
+		}
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		metrics.put("test", context.testName);
+		metrics.put("actions", actions);
+		metrics.put("steps", context.steps);
+
+		File folder = new File(CommonVariables.STEP_METRICS_FOLDER_PATH);
+		folder.mkdirs();
+		File metricsFile = new File(folder, context.testName.replaceAll("[^-A-Za-z0-9]", "_") + "_"
+				+ System.currentTimeMillis() + ".json");
+		OBJECT_MAPPER.writeValue(metricsFile, metrics);
+		return metricsFile.getAbsolutePath();
+	}
+
+	/**
+	 * Starts the step, when a step is already running in the thread the action
+	 * is considered as part of that step. The step is kept for the test file
+	 * only when it is run between {@link #startTest(String)} and
+	 * {@link #endTest()}, otherwise it is recorded only in the histograms.
+	 *
+	 * @param action the action (method name)
+	 * @param target the locator or the element of the action, null if the action
+	 *               is not on an element
+	 * @return the timer, to be closed when the action is completed
+	 */
+	public static Timer startStep(String action, Object target) {
+		TestContext context = CONTEXT.get();
+		if (context.depth++ > 0) {
+			return () -> context.depth--;
+		}
+		StepRecord step = new StepRecord();
+		step.action = action;
+		step.locator = describe(target);
+		step.startTime = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
+		context.phases.clear();
+		context.phaseNanos.clear();
+		return () -> {
+			context.depth--;
+			long totalNanos = System.nanoTime() - startNanos;
+			long phasesNanos = context.phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+			context.phaseNanos.put(StepPhaseEnums.WEBDRIVER, Math.max(0, totalNanos - phasesNanos));
+			step.totalMillis = totalNanos / 1_000_000.0;
+			context.phaseNanos.forEach((phase, nanos) -> step.phaseMillis.put(phase, nanos / 1_000_000.0));
+			record(step);
+			if (context.started) {
+				context.steps.add(step);
+			}
+		};
+	}
+
+	/**
+	 * Starts the phase of the current step, nothing is recorded when there is
+	 * no step running in the thread.
+	 *
+	 * @param phase the phase
+	 * @return the timer, to be closed when the phase is completed
+	 */
+	public static Timer startPhase(StepPhaseEnums phase) {
+		TestContext context = CONTEXT.get();
+		if (context.depth == 0) {
+			return NO_TIMER;
+		}
+		PhaseFrame frame = new PhaseFrame(phase);
+		context.phases.push(frame);
+		return () -> {
+			context.phases.remove(frame);
+			long elapsedNanos = System.nanoTime() - frame.startNanos;
+			context.phaseNanos.merge(frame.phase, elapsedNanos - frame.childNanos, Long::sum);
+			// time of this phase is not counted again for the outer phase
+			PhaseFrame outerFrame = context.phases.peek();
+			if (outerFrame != null) {
+				outerFrame.childNanos += elapsedNanos;
+			}
+		};
+	}
+
+	/**
+	 * Clears the action and locator histograms, steps of the running tests are
+	 * not affected.
+	 */
+	public static void reset() {
+		ACTION_HISTOGRAMS.clear();
+		LOCATOR_HISTOGRAMS.clear();
+	}
+
+	/**
+	 * Gets the histograms per action type, keyed by the phase name and
+	 * {@link #TOTAL} for the total step time.
+	 *
+	 * @return the action histograms
+	 */
+	public static Map<String, Map<String, Histogram>> getActionHistograms() {
+		return ACTION_HISTOGRAMS;
+	}
+
+	/**
+	 * Gets the histograms of the total step time per locator.
+	 *
+	 * @return the locator histograms
+	 */
+	public static Map<String, Histogram> getLocatorHistograms() {
+		return LOCATOR_HISTOGRAMS;
+	}
+
+	/**
+	 * Gets the report of the locators which take most of the step time.
+	 *
+	 * @param top the number of locators to be reported
+	 * @return the report, one line per locator
+	 */
+	public static String getReport(int top) {
+		return LOCATOR_HISTOGRAMS.entrySet().stream()
+				.sorted(Comparator.comparingLong((Map.Entry<String, Histogram> entry) -> entry.getValue().totalMillis)
+						.reversed())
+				.limit(top)
+				.map(entry -> String.format("%s :- total %d ms, steps %d, p50 %d ms, p99 %d ms, max %d ms",
+						entry.getKey(), entry.getValue().totalMillis, entry.getValue().count,
+						entry.getValue().percentile(0.5), entry.getValue().percentile(0.99),
+						entry.getValue().maxMillis))
+				.collect(Collectors.joining(System.lineSeparator()));
+	}
+
+	/**
+	 * Records the step in the histograms.
+	 *
+	 * @param step the step
+	 */
+	private static void record(StepRecord step) {
+		Map<String, Histogram> histograms = ACTION_HISTOGRAMS.computeIfAbsent(step.action,
+				key -> new ConcurrentHashMap<>());
+		histograms.computeIfAbsent(TOTAL, key -> new Histogram()).record(Math.round(step.totalMillis));
+		step.phaseMillis.forEach((phase, millis) -> histograms.computeIfAbsent(phase.name(), key -> new Histogram())
+				.record(Math.round(millis)));
+		if (step.locator != null) {
+			// the number of locators is bounded, as the locators built at run time can be unique per step
+			String locator = (LOCATOR_HISTOGRAMS.containsKey(step.locator)
+					|| LOCATOR_HISTOGRAMS.size() < MAX_LOCATORS) ? step.locator : OTHER_LOCATORS;
+			LOCATOR_HISTOGRAMS.computeIfAbsent(locator, key -> new Histogram()).record(Math.round(step.totalMillis));
+		}
+	}
+
+	/**
+	 * Describes the target of the step, the element is described by the locator
+	 * it was found with.
+	 *
+	 * @param target the locator or the element
+	 * @return the description, null for no target
+	 */
+	private static String describe(Object target) {
+		if (target == null) {
+			return null;
+		}
+		String description = String.valueOf(target);
+		if (target instanceof WebElement) {
+			// eg: [[ChromeDriver: chrome on linux (session)] -> id: username]
+			int locatorIndex = description.lastIndexOf("-> ");
+			return (locatorIndex < 0) ? "WebElement"
+					: description.substring(locatorIndex + 3).replaceAll("\\]+$", "");
+		}
+		return description;
+	}
+}
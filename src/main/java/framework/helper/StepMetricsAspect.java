@@ -0,0 +1,100 @@
+package framework.helper;
+
+import java.lang.reflect.Modifier;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import framework.commonfunctions.CommonFunctions;
+import framework.enums.StepPhaseEnums;
+
+/**
+ * Times the actions of {@link CommonFunctions} in to {@link StepMetrics} when
+ * {@link CommonFunctions#setStepMetrics(boolean) step metrics} are enabled.
+ * Public methods taking the driver are the steps, and the waits, screenshots
+ * and highlights (including the private helpers doing them) are the phases
+ * with in the step.<br>
+ * <br>
+ * Woven at load time by the AspectJ weaver agent, see
+ * <i>META-INF/aop.xml</i>.
+ */
+@Aspect
+public class StepMetricsAspect {
+
+	/**
+	 * Times the step and the phase of the action.
+	 *
+	 * @param joinPoint the join point of the action
+	 * @return the result of the action
+	 * @throws Throwable the exception thrown by the action
+	 */
+	@Around("execution(public * framework.commonfunctions.CommonFunctions.*(org.openqa.selenium.WebDriver, ..))"
+			+ " || execution(private * framework.commonfunctions.CommonFunctions.waitUntil*(..))"
+			+ " || execution(private * framework.commonfunctions.CommonFunctions.highlight(..))")
+	public Object timeAction(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (!(joinPoint.getThis() instanceof CommonFunctions)
+				|| !((CommonFunctions) joinPoint.getThis()).isStepMetrics()) {
+			return joinPoint.proceed();
+		}
+		String action = joinPoint.getSignature().getName();
+		StepPhaseEnums phase = getPhase(action);
+		// the step is started first, a phase outside of a step is not recorded
+		StepMetrics.Timer stepTimer = isStep(joinPoint) ? StepMetrics.startStep(action, getTarget(joinPoint.getArgs()))
+				: StepMetrics.NO_TIMER;
+		try {
+			StepMetrics.Timer phaseTimer = (phase != null) ? StepMetrics.startPhase(phase) : StepMetrics.NO_TIMER;
+			try {
+				return joinPoint.proceed();
+			} finally {
+				phaseTimer.close();
+			}
+		} finally {
+			stepTimer.close();
+		}
+	}
+
+	/**
+	 * Checks if the join point is a public action.
+	 *
+	 * @param joinPoint the join point
+	 * @return true, if it is a step
+	 */
+	private boolean isStep(ProceedingJoinPoint joinPoint) {
+		return Modifier.isPublic(joinPoint.getSignature().getModifiers());
+	}
+
+	/**
+	 * Gets the phase of the action from its name.
+	 *
+	 * @param action the action (method name)
+	 * @return the phase, null if the whole action is WebDriver commands
+	 */
+	private StepPhaseEnums getPhase(String action) {
+		if (action.startsWith("waitFor") || action.startsWith("waitUntil")) {
+			return StepPhaseEnums.WAIT;
+		} else if (action.startsWith("capture") && action.contains("ScreenShot")) {
+			return StepPhaseEnums.SCREENSHOT;
+		} else if (action.startsWith("highlight") || action.startsWith("unHighlight") || action.equals("flash")) {
+			return StepPhaseEnums.HIGHLIGHT;
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the locator or the element the action is on.
+	 *
+	 * @param args the arguments of the action
+	 * @return the first locator or element argument, null if there is none
+	 */
+	private Object getTarget(Object[] args) {
+		for (Object arg : args) {
+			if (arg instanceof By || arg instanceof WebElement) {
+				return arg;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,194 @@
+package framework.helper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import framework.constants.CommonVariables;
+
+/**
+ * Records the time taken by the waits per locator and expected condition, the
+ * statistics are persisted to
+ * {@link CommonVariables#WAIT_STATS_FILE_PATH WAIT_STATS_FILE_PATH} when the
+ * JVM exits (or on {@link #save()}) and loaded back in the later runs.<br>
+ * <br>
+ * The statistics are used to
+ * <ul>
+ * <li>derive the timeout of the locator from the p99 wait time (see
+ * {@link #getTimeout(String, int)})</li>
+ * <li>report the locators which take most of the wait time (see
+ * {@link #getReport(int)})</li>
+ * </ul>
+ */
+public final class WaitProfiler {
+
+	/**
+	 * The number of latest wait times kept per locator.
+	 */
+	public static final int MAX_SAMPLES = 200;
+
+	/**
+	 * The minimum number of wait times needed to derive the timeout, also the
+	 * number of successful waits needed after a timeout to derive it again.
+	 */
+	public static final int MIN_SAMPLES = 10;
+
+	/**
+	 * The wait statistics of a locator and expected condition.
+	 */
+	public static class WaitStats {
+
+		/** The latest successful wait times in milliseconds. */
+		public List<Long> samples = new ArrayList<>();
+
+		/** The number of successful waits. */
+		public long count;
+
+		/** The number of waits timed out. */
+		public long timeouts;
+
+		/** The number of successful waits since the latest timeout. */
+		public long countSinceTimeout;
+
+		/** The total time waited (including the timeouts) in milliseconds. */
+		public long totalMillis;
+	}
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private static Map<String, WaitStats> waitStats;
+
+	private WaitProfiler() {
+	}
+
+	/**
+	 * Records the wait time.
+	 *
+	 * @param waitKey     the wait key (locator and expected condition)
+	 * @param waitMillis  the time waited in milliseconds
+	 * @param isSucceeded false if the wait is timed out
+	 */
+	public static synchronized void record(String waitKey, long waitMillis, boolean isSucceeded) {
+		WaitStats stats = getWaitStats().computeIfAbsent(waitKey, key -> new WaitStats());
+		stats.totalMillis += waitMillis;
+		if (isSucceeded) {
+			stats.count++;
+			stats.countSinceTimeout++;
+			stats.samples.add(waitMillis);
+			if (stats.samples.size() > MAX_SAMPLES) {
+				stats.samples.remove(0);
+			}
+		} else {
+			stats.timeouts++;
+			stats.countSinceTimeout = 0;
+		}
+	}
+
+	/**
+	 * Gets the timeout derived from the p99 wait time (with 50% head room) of the
+	 * locator.
+	 *
+	 * @param waitKey        the wait key (locator and expected condition)
+	 * @param defaultTimeout the timeout to be used when there are not enough
+	 *                       samples or the locator has timed out with in the
+	 *                       latest {@value #MIN_SAMPLES} waits
+	 * @return the timeout in seconds, with in
+	 * {@link CommonVariables#MIN_TIMEOUT MIN_TIMEOUT} (or the default timeout if
+	 * it is lower) and {@link CommonVariables#MAX_TIMEOUT MAX_TIMEOUT}
+	 */
+	public static synchronized int getTimeout(String waitKey, int defaultTimeout) {
+		WaitStats stats = getWaitStats().get(waitKey);
+		if (stats == null || stats.samples.size() < MIN_SAMPLES
+				|| (stats.timeouts > 0 && stats.countSinceTimeout < MIN_SAMPLES)) {
+			return defaultTimeout;
+		}
+		long timeoutMillis = getP99(stats) * 3 / 2;
+		// a fast locator is not tuned down to a timeout which fails on a single slow response
+		int minTimeout = Math.min(defaultTimeout, CommonVariables.MIN_TIMEOUT);
+		return (int) Math.max(minTimeout, Math.min(CommonVariables.MAX_TIMEOUT, (timeoutMillis + 999) / 1000));
+	}
+
+	/**
+	 * Gets the report of the locators which take most of the wait time.
+	 *
+	 * @param top the number of locators to be reported
+	 * @return the report, one line per locator
+	 */
+	public static synchronized String getReport(int top) {
+		long grandTotal = getWaitStats().values().stream().mapToLong(stats -> stats.totalMillis).sum();
+		return getWaitStats().entrySet().stream()
+				.sorted(Comparator.comparingLong((Map.Entry<String, WaitStats> entry) -> entry.getValue().totalMillis)
+						.reversed())
+				.limit(top)
+				.map(entry -> String.format("%s :- total %d ms (%.1f%%), waits %d, timeouts %d, p99 %d ms",
+						entry.getKey(), entry.getValue().totalMillis,
+						grandTotal == 0 ? 0.0 : entry.getValue().totalMillis * 100.0 / grandTotal,
+						entry.getValue().count, entry.getValue().timeouts, getP99(entry.getValue())))
+				.collect(Collectors.joining(System.lineSeparator()));
+	}
+
+	/**
+	 * Saves the statistics to the stats file.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static synchronized void save() throws IOException {
+		if (waitStats != null) {
+			OBJECT_MAPPER.writeValue(new File(CommonVariables.WAIT_STATS_FILE_PATH), waitStats);
+		}
+	}
+
+	/**
+	 * Gets the p99 of the wait times.
+	 *
+	 * @param stats the wait statistics
+	 * @return the p99 wait time in milliseconds, 0 if there are no samples
+	 */
+	private static long getP99(WaitStats stats) {
+		if (stats.samples.isEmpty()) {
+			return 0;
+		}
+		List<Long> samples = new ArrayList<>(stats.samples);
+		Collections.sort(samples);
+		return samples.get((int) Math.ceil(samples.size() * 0.99) - 1);
+	}
+
+	/**
+	 * Gets the statistics, loads them from the stats file on the first call and
+	 * registers the shutdown hook to save them back.
+	 *
+	 * @return the wait statistics
+	 */
+	private static Map<String, WaitStats> getWaitStats() {
+		if (waitStats == null) {
+			waitStats = new HashMap<>();
+			File statsFile = new File(CommonVariables.WAIT_STATS_FILE_PATH);
+			if (statsFile.exists()) {
+				try {
+					waitStats.putAll(OBJECT_MAPPER.readValue(statsFile, new TypeReference<Map<String, WaitStats>>() {
+					}));
+				} catch (IOException ioException) {
+					// corrupted stats file, start with the fresh statistics
+				}
+			}
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				try {
+					save();
+				} catch (IOException ioException) {
+					// nothing can be done while the JVM is exiting
+				}
+			}));
+		}
+		return waitStats;
+	}
+}
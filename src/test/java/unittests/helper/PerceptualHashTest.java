@@ -0,0 +1,82 @@
+package unittests.helper;
+
+import static org.testng.Assert.assertEquals;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.testng.annotations.Test;
+
+import framework.helper.PerceptualHash;
+
+public class PerceptualHashTest {
+
+	/**
+	 * Creates the screenshot of the hash grid cells, where no cell is of the
+	 * same brightness as its right neighbour.
+	 *
+	 * @param width      the width
+	 * @param height     the height
+	 * @param isInverted true to invert the brightness of the cells
+	 * @return the screenshot
+	 */
+	private static BufferedImage createScreenShot(int width, int height, boolean isInverted) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			int row = y * PerceptualHash.GRID_SIZE / height;
+			for (int x = 0; x < width; x++) {
+				int column = x * (PerceptualHash.GRID_SIZE + 1) / width;
+				int brightness = (row * 37 + column * 91) % 256;
+				if (isInverted) {
+					brightness = 255 - brightness;
+				}
+				image.setRGB(x, y, new Color(brightness, brightness, brightness).getRGB());
+			}
+		}
+		return image;
+	}
+
+	@Test
+	public void testSameScreenShot() {
+		assertEquals(PerceptualHash.of(createScreenShot(1280, 800, false))
+				.distance(PerceptualHash.of(createScreenShot(1280, 800, false))), 0);
+	}
+
+	@Test
+	public void testSmallRenderingDifference() {
+		BufferedImage image = createScreenShot(1280, 800, false);
+		// blinking caret
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.BLACK);
+		graphics.fillRect(400, 300, 2, 16);
+		graphics.dispose();
+		assertEquals(PerceptualHash.of(image).distance(PerceptualHash.of(createScreenShot(1280, 800, false))), 0);
+	}
+
+	@Test
+	public void testChangedScreenShot() {
+		assertEquals(PerceptualHash.of(createScreenShot(1280, 800, false))
+				.distance(PerceptualHash.of(createScreenShot(1280, 800, true))),
+				PerceptualHash.GRID_SIZE * PerceptualHash.GRID_SIZE);
+	}
+
+	@Test
+	public void testDifferentSize() {
+		assertEquals(PerceptualHash.of(createScreenShot(1280, 800, false))
+				.distance(PerceptualHash.of(createScreenShot(1280, 720, false))), Integer.MAX_VALUE);
+	}
+
+	@Test
+	public void testEncodedScreenShot() throws IOException {
+		BufferedImage image = createScreenShot(1280, 800, false);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", outputStream);
+		// subsampled decoding gives the same hash as the full image
+		assertEquals(PerceptualHash.of(outputStream.toByteArray()).distance(PerceptualHash.of(image)), 0);
+	}
+}
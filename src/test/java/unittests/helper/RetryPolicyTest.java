@@ -0,0 +1,97 @@
+package unittests.helper;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.annotations.Test;
+
+import framework.helper.RetryPolicy;
+
+public class RetryPolicyTest {
+
+	@Test
+	public void testStopsAfterMaxAttempts() {
+		RetryPolicy retryPolicy = new RetryPolicy("maxAttempts", 3, 0);
+		AtomicInteger attempts = new AtomicInteger();
+		AtomicInteger preparedRetries = new AtomicInteger();
+		expectThrows(StaleElementReferenceException.class, () -> retryPolicy.execute(() -> {
+			attempts.incrementAndGet();
+			throw new StaleElementReferenceException("stale");
+		}, exception -> preparedRetries.incrementAndGet()));
+		assertEquals(attempts.get(), 3);
+		assertEquals(preparedRetries.get(), 2);
+		assertEquals(retryPolicy.getRetries(), 2);
+		assertEquals(retryPolicy.getRecoveries(), 0);
+		assertEquals(retryPolicy.getFailures(), 1);
+	}
+
+	@Test
+	public void testRecoveredOnRetry() throws Exception {
+		RetryPolicy retryPolicy = new RetryPolicy("recovered", 3, 0);
+		AtomicInteger attempts = new AtomicInteger();
+		String result = retryPolicy.execute(() -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new ElementClickInterceptedException("intercepted");
+			}
+			return "clicked";
+		}, exception -> {
+		});
+		assertEquals(result, "clicked");
+		assertEquals(attempts.get(), 2);
+		assertEquals(retryPolicy.getRetries(), 1);
+		assertEquals(retryPolicy.getRecoveries(), 1);
+		assertEquals(retryPolicy.getFailures(), 0);
+	}
+
+	@Test
+	public void testNotRetryableException() {
+		RetryPolicy retryPolicy = new RetryPolicy("notRetryable", 3, 0);
+		AtomicInteger attempts = new AtomicInteger();
+		expectThrows(NoSuchElementException.class, () -> retryPolicy.execute(() -> {
+			attempts.incrementAndGet();
+			throw new NoSuchElementException("missing");
+		}, exception -> {
+		}));
+		assertEquals(attempts.get(), 1);
+		assertEquals(retryPolicy.getRetries(), 0);
+		assertEquals(retryPolicy.getFailures(), 0);
+	}
+
+	@Test
+	public void testNoneAttemptsOnce() {
+		AtomicInteger attempts = new AtomicInteger();
+		expectThrows(StaleElementReferenceException.class, () -> RetryPolicy.NONE.execute(() -> {
+			attempts.incrementAndGet();
+			throw new StaleElementReferenceException("stale");
+		}, exception -> {
+		}));
+		assertEquals(attempts.get(), 1);
+	}
+
+	@Test
+	public void testInvalidMaxAttempts() {
+		expectThrows(IllegalArgumentException.class, () -> new RetryPolicy("invalid", 0, 0));
+	}
+
+	@Test
+	public void testBackoffBounds() {
+		long backoffMillis = 100;
+		RetryPolicy retryPolicy = new RetryPolicy("backoff", 3, backoffMillis);
+		long startTime = System.nanoTime();
+		expectThrows(StaleElementReferenceException.class, () -> retryPolicy.execute(() -> {
+			throw new StaleElementReferenceException("stale");
+		}, exception -> {
+		}));
+		long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+		// backoff of the nth retry is with in half and full of the doubled backoff:
+		// [50, 100] ms and then [100, 200] ms
+		assertTrue(elapsedMillis >= backoffMillis * 3 / 2, "Waited only " + elapsedMillis + " ms");
+		assertTrue(elapsedMillis < backoffMillis * 3 + 1000, "Waited " + elapsedMillis + " ms");
+	}
+}
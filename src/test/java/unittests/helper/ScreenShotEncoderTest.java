@@ -0,0 +1,77 @@
+package unittests.helper;
+
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import framework.enums.ImageFormatEnums;
+import framework.helper.ScreenShotEncoder;
+
+public class ScreenShotEncoderTest {
+
+	private byte[] pngImage;
+
+	/**
+	 * Creates the screenshot with the random noise, which does not compress
+	 * well in any format.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@BeforeClass
+	public void setUpScreenShot() throws IOException {
+		BufferedImage image = new BufferedImage(1280, 800, BufferedImage.TYPE_INT_RGB);
+		Random random = new Random(42);
+		for (int y = 0; y < image.getHeight(); y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				image.setRGB(x, y, random.nextInt(0x1000000));
+			}
+		}
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", outputStream);
+		this.pngImage = outputStream.toByteArray();
+	}
+
+	@Test
+	public void testPngPassThrough() throws IOException {
+		assertSame(ScreenShotEncoder.PNG.encode(this.pngImage), this.pngImage);
+		ScreenShotEncoder encoder = new ScreenShotEncoder(ImageFormatEnums.PNG, 1.0f, 1.0, false,
+				this.pngImage.length);
+		assertSame(encoder.encode(this.pngImage), this.pngImage);
+	}
+
+	@Test
+	public void testPngFitsMaxBytes() throws IOException {
+		long maxBytes = 500_000;
+		ScreenShotEncoder encoder = new ScreenShotEncoder(ImageFormatEnums.PNG, 1.0f, 1.0, false, maxBytes);
+		byte[] encodedImage = encoder.encode(this.pngImage);
+		assertTrue(encodedImage.length <= maxBytes, "Encoded screenshot is of " + encodedImage.length + " bytes");
+	}
+
+	@Test
+	public void testJpegFitsMaxBytes() throws IOException {
+		long maxBytes = 100_000;
+		ScreenShotEncoder encoder = new ScreenShotEncoder(ImageFormatEnums.JPEG, 0.9f, 1.0, false, maxBytes);
+		byte[] encodedImage = encoder.encode(this.pngImage);
+		assertTrue(encodedImage.length <= maxBytes, "Encoded screenshot is of " + encodedImage.length + " bytes");
+		assertTrue(ImageIO.read(new ByteArrayInputStream(encodedImage)).getHeight() > 0);
+	}
+
+	@Test
+	public void testUnreachableMaxBytesKeepsMinWidth() throws IOException {
+		ScreenShotEncoder encoder = new ScreenShotEncoder(ImageFormatEnums.JPEG, 0.9f, 1.0, false, 1);
+		BufferedImage encodedImage = ImageIO.read(new ByteArrayInputStream(encoder.encode(this.pngImage)));
+		// screenshot is not made unreadable to meet the budget, it stops at 320 pixels width
+		assertTrue(encodedImage.getWidth() >= 320 && encodedImage.getWidth() < 320 * 4 / 3,
+				"Encoded screenshot is of " + encodedImage.getWidth() + " pixels width");
+	}
+}
@@ -0,0 +1,97 @@
+package unittests.helper;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import framework.constants.CommonVariables;
+import framework.helper.WaitProfiler;
+
+public class WaitProfilerTest {
+
+	private static final int DEFAULT_TIMEOUT = 30;
+
+	/**
+	 * Points the stats file to a temporary file, so that the statistics of the
+	 * project are not read or overwritten by the test.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@BeforeClass
+	public void setUpStatsFile() throws IOException {
+		File statsFile = File.createTempFile("waitStats", ".json");
+		statsFile.delete();
+		statsFile.deleteOnExit();
+		CommonVariables.WAIT_STATS_FILE_PATH = statsFile.getAbsolutePath();
+	}
+
+	@Test
+	public void testDefaultTimeoutTillMinSamples() {
+		String waitKey = "minSamples";
+		for (int sample = 1; sample < WaitProfiler.MIN_SAMPLES; sample++) {
+			WaitProfiler.record(waitKey, 20000, true);
+		}
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), DEFAULT_TIMEOUT);
+		WaitProfiler.record(waitKey, 20000, true);
+		// p99 of 20 s with 50% head room
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), 30);
+	}
+
+	@Test
+	public void testDefaultTimeoutAfterTimeout() {
+		String waitKey = "afterTimeout";
+		for (int sample = 0; sample < WaitProfiler.MIN_SAMPLES; sample++) {
+			WaitProfiler.record(waitKey, 4000, true);
+		}
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), 6);
+		WaitProfiler.record(waitKey, DEFAULT_TIMEOUT * 1000L, false);
+		for (int sample = 1; sample < WaitProfiler.MIN_SAMPLES; sample++) {
+			WaitProfiler.record(waitKey, 4000, true);
+		}
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), DEFAULT_TIMEOUT);
+		WaitProfiler.record(waitKey, 4000, true);
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), 6);
+	}
+
+	@Test
+	public void testOldSamplesDropped() {
+		String waitKey = "window";
+		for (int sample = 0; sample < WaitProfiler.MAX_SAMPLES; sample++) {
+			WaitProfiler.record(waitKey, 40000, true);
+		}
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), 60);
+		// only the latest samples are kept, so the slow waits are forgotten once
+		// the window is filled with the fast ones (p99 of the window ignores the
+		// two slowest samples)
+		for (int sample = 0; sample < WaitProfiler.MAX_SAMPLES - 3; sample++) {
+			WaitProfiler.record(waitKey, 8000, true);
+		}
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), 60);
+		WaitProfiler.record(waitKey, 8000, true);
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), 12);
+	}
+
+	@Test
+	public void testMinTimeout() {
+		String waitKey = "minTimeout";
+		for (int sample = 0; sample < WaitProfiler.MIN_SAMPLES; sample++) {
+			WaitProfiler.record(waitKey, 10, true);
+		}
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), CommonVariables.MIN_TIMEOUT);
+		// default timeout lower than the min timeout is not raised
+		assertEquals(WaitProfiler.getTimeout(waitKey, 2), 2);
+	}
+
+	@Test
+	public void testMaxTimeout() {
+		String waitKey = "maxTimeout";
+		for (int sample = 0; sample < WaitProfiler.MIN_SAMPLES; sample++) {
+			WaitProfiler.record(waitKey, CommonVariables.MAX_TIMEOUT * 1000L, true);
+		}
+		assertEquals(WaitProfiler.getTimeout(waitKey, DEFAULT_TIMEOUT), CommonVariables.MAX_TIMEOUT);
+	}
+}